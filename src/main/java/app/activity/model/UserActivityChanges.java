@@ -0,0 +1,89 @@
+package app.activity.model;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.transaction.model.Transaction;
+import app.utility.Money;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Changes to the daily activity rows collected while a unit of work runs, merged per (user, day) so it is written with
+ * one statement per row. Rows are iterated in key order, so concurrent writers lock them in the same order.
+ */
+public class UserActivityChanges {
+
+    private final Map<UserDailyActivityId, UserDailyActivity> changes = new TreeMap<>();
+
+    public UserActivityChanges claimCreated(Claim claim) {
+        UserDailyActivity change = change(claim);
+        change.setClaims(change.getClaims() + 1);
+        return this;
+    }
+
+    /**
+     * Records the decision of a claim. Deleted claims are not counted, so their decisions are not either.
+     */
+    public UserActivityChanges claimDecided(Claim claim) {
+        if (!claim.isDeleted()) {
+            countStatus(claim, 1);
+        }
+        return this;
+    }
+
+    /**
+     * Records that a claim was deleted or restored, taking its current status with it.
+     */
+    public UserActivityChanges claimDeletionToggled(Claim claim) {
+        int sign = claim.isDeleted() ? -1 : 1;
+        UserDailyActivity change = change(claim);
+        change.setClaims(change.getClaims() + sign);
+        countStatus(claim, sign);
+        return this;
+    }
+
+    public UserActivityChanges transactionsCreated(Collection<Transaction> transactions) {
+        transactions.forEach(transaction -> countTransaction(transaction, 1));
+        return this;
+    }
+
+    /**
+     * Records that a transaction was deleted or restored.
+     */
+    public UserActivityChanges transactionDeletionToggled(Transaction transaction) {
+        countTransaction(transaction, transaction.isDeleted() ? -1 : 1);
+        return this;
+    }
+
+    public Collection<UserDailyActivity> getChanges() {
+        return changes.values();
+    }
+
+    private void countStatus(Claim claim, int sign) {
+        UserDailyActivity change = change(claim);
+
+        if (claim.getClaimStatus() == ClaimStatus.APPROVED) {
+            change.setApprovedClaims(change.getApprovedClaims() + sign);
+        } else if (claim.getClaimStatus() == ClaimStatus.REJECTED) {
+            change.setRejectedClaims(change.getRejectedClaims() + sign);
+        }
+    }
+
+    private void countTransaction(Transaction transaction, int sign) {
+        UserDailyActivity change = change(new UserDailyActivityId(transaction.getTransactionOwner().getId(), transaction.getCreatedOn().toLocalDate()));
+        Money paidAmount = transaction.getPaidAmount();
+
+        change.setTransactions(change.getTransactions() + sign);
+        change.setPaidAmount(sign > 0 ? change.getPaidAmount().plus(paidAmount) : change.getPaidAmount().minus(paidAmount));
+    }
+
+    private UserDailyActivity change(Claim claim) {
+        return change(new UserDailyActivityId(claim.getUser().getId(), claim.getCreatedOn().toLocalDate()));
+    }
+
+    private UserDailyActivity change(UserDailyActivityId id) {
+        return changes.computeIfAbsent(id, UserDailyActivity::empty);
+    }
+}
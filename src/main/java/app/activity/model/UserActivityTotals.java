@@ -0,0 +1,28 @@
+package app.activity.model;
+
+import app.utility.Money;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Sum of the daily activity rows of one user over a period.
+ */
+@Getter
+public class UserActivityTotals {
+
+    private final long claims;
+
+    private final long approvedClaims;
+
+    private final long transactions;
+
+    private final Money paidAmount;
+
+    public UserActivityTotals(Long claims, Long approvedClaims, Long transactions, BigDecimal paidAmount) {
+        this.claims = claims == null ? 0 : claims;
+        this.approvedClaims = approvedClaims == null ? 0 : approvedClaims;
+        this.transactions = transactions == null ? 0 : transactions;
+        this.paidAmount = paidAmount == null ? Money.ZERO : Money.of(paidAmount);
+    }
+}
@@ -0,0 +1,89 @@
+package app.activity.model;
+
+import app.utility.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Claims and transactions of one user created on one day. Claims count by their current status and deleted claims and
+ * transactions are left out, so a row always equals what the report queries would read from the raw tables for that
+ * day.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(UserDailyActivityId.class)
+@Table(name = "user_daily_activity", indexes = @Index(name = "ix_user_daily_activity_user_date", columnList = "userId, activityDate"))
+public class UserDailyActivity {
+
+    @Id
+    private UUID userId;
+
+    @Id
+    private LocalDate activityDate;
+
+    private long claims;
+
+    private long approvedClaims;
+
+    private long rejectedClaims;
+
+    private long transactions;
+
+    @Column(nullable = false)
+    private Money paidAmount;
+
+    /**
+     * Claim counts of a day as aggregated from the claim table.
+     */
+    public UserDailyActivity(UUID userId, LocalDate activityDate, long claims, long approvedClaims, long rejectedClaims) {
+        this(userId, activityDate, claims, approvedClaims, rejectedClaims, 0, Money.ZERO);
+    }
+
+    /**
+     * Transaction count and paid amount of a day as aggregated from the transaction table.
+     */
+    public UserDailyActivity(UUID userId, LocalDate activityDate, long transactions, BigDecimal paidAmount) {
+        this(userId, activityDate, 0, 0, 0, transactions, paidAmount == null ? Money.ZERO : Money.of(paidAmount));
+    }
+
+    public static UserDailyActivity empty(UserDailyActivityId id) {
+        return new UserDailyActivity(id.getUserId(), id.getActivityDate(), 0, 0, 0, 0, Money.ZERO);
+    }
+
+    public UserDailyActivityId getId() {
+        return new UserDailyActivityId(userId, activityDate);
+    }
+
+    public void add(UserDailyActivity other) {
+        claims += other.claims;
+        approvedClaims += other.approvedClaims;
+        rejectedClaims += other.rejectedClaims;
+        transactions += other.transactions;
+        paidAmount = paidAmount.plus(other.paidAmount);
+    }
+
+    public void subtract(UserDailyActivity other) {
+        claims -= other.claims;
+        approvedClaims -= other.approvedClaims;
+        rejectedClaims -= other.rejectedClaims;
+        transactions -= other.transactions;
+        paidAmount = paidAmount.minus(other.paidAmount);
+    }
+
+    public boolean isEmpty() {
+        return claims == 0 && approvedClaims == 0 && rejectedClaims == 0 && transactions == 0 && paidAmount.signum() == 0;
+    }
+
+    public boolean hasSameTotals(UserDailyActivity other) {
+        return claims == other.claims && approvedClaims == other.approvedClaims && rejectedClaims == other.rejectedClaims
+                && transactions == other.transactions && paidAmount.equals(other.paidAmount);
+    }
+}
@@ -0,0 +1,30 @@
+package app.activity.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.UUID;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDailyActivityId implements Serializable, Comparable<UserDailyActivityId> {
+
+    private static final Comparator<UserDailyActivityId> ORDER = Comparator.comparing(UserDailyActivityId::getUserId)
+            .thenComparing(UserDailyActivityId::getActivityDate);
+
+    private UUID userId;
+
+    private LocalDate activityDate;
+
+    @Override
+    public int compareTo(UserDailyActivityId other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,80 @@
+package app.activity.repository;
+
+import app.activity.model.UserActivityTotals;
+import app.activity.model.UserDailyActivity;
+import app.activity.model.UserDailyActivityId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserDailyActivityRepository extends JpaRepository<UserDailyActivity, UserDailyActivityId> {
+
+    List<UserDailyActivity> findAllByUserId(UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM UserDailyActivity a WHERE a.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Adds the given counts to the row of the user and day, creating it when missing. A single statement, so concurrent
+     * writers of the same row neither lose updates nor collide on its insert. {@code ON DUPLICATE KEY UPDATE} is MySQL
+     * syntax (the tests run H2 in MySQL mode), so this native query ties the rollup to MySQL; another database needs
+     * its own upsert here, such as {@code MERGE} or {@code ON CONFLICT}.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_daily_activity (user_id, activity_date, claims, approved_claims, rejected_claims, transactions, paid_amount)
+            VALUES (:userId, :activityDate, :claims, :approvedClaims, :rejectedClaims, :transactions, :paidAmount)
+            ON DUPLICATE KEY UPDATE claims = claims + :claims, approved_claims = approved_claims + :approvedClaims,
+                rejected_claims = rejected_claims + :rejectedClaims, transactions = transactions + :transactions,
+                paid_amount = paid_amount + :paidAmount
+            """, nativeQuery = true)
+    int add(@Param("userId") UUID userId,
+            @Param("activityDate") LocalDate activityDate,
+            @Param("claims") long claims,
+            @Param("approvedClaims") long approvedClaims,
+            @Param("rejectedClaims") long rejectedClaims,
+            @Param("transactions") long transactions,
+            @Param("paidAmount") BigDecimal paidAmount);
+
+    @Query("""
+            SELECT new app.activity.model.UserActivityTotals(SUM(a.claims), SUM(a.approvedClaims), SUM(a.transactions), SUM(a.paidAmount))
+            FROM UserDailyActivity a
+            WHERE a.userId = :userId AND a.activityDate BETWEEN :startDate AND :endDate
+            """)
+    UserActivityTotals sumByUserIdAndActivityDateBetween(@Param("userId") UUID userId,
+                                                         @Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate);
+
+    /**
+     * Daily claim counts of the user computed from the claim table, the source the rollup is rebuilt and checked from.
+     */
+    @Query("""
+            SELECT new app.activity.model.UserDailyActivity(c.user.id, cast(c.createdOn as LocalDate), COUNT(c),
+                   SUM(CASE WHEN c.claimStatus = app.claim.model.ClaimStatus.APPROVED THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN c.claimStatus = app.claim.model.ClaimStatus.REJECTED THEN 1 ELSE 0 END))
+            FROM Claim c
+            WHERE c.user.id = :userId AND c.deleted = false
+            GROUP BY c.user.id, cast(c.createdOn as LocalDate)
+            """)
+    List<UserDailyActivity> sumClaimsByDay(@Param("userId") UUID userId);
+
+    /**
+     * Daily transaction counts and amounts of the user computed from the transaction table.
+     */
+    @Query("""
+            SELECT new app.activity.model.UserDailyActivity(t.transactionOwner.id, cast(t.createdOn as LocalDate), COUNT(t), SUM(t.paidAmount))
+            FROM Transaction t
+            WHERE t.transactionOwner.id = :userId AND t.deleted = false
+            GROUP BY t.transactionOwner.id, cast(t.createdOn as LocalDate)
+            """)
+    List<UserDailyActivity> sumTransactionsByDay(@Param("userId") UUID userId);
+}
@@ -0,0 +1,156 @@
+package app.activity.service;
+
+import app.activity.model.UserActivityChanges;
+import app.activity.model.UserActivityTotals;
+import app.activity.model.UserDailyActivity;
+import app.activity.model.UserDailyActivityId;
+import app.activity.repository.UserDailyActivityRepository;
+import app.user.repository.UserRepository;
+import app.utility.ConcurrencyRetry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-user daily rollup of claims and transactions that period reports are built from. Writers record
+ * their changes in their own transaction, so the rollup commits or rolls back together with the rows it summarises.
+ * The rollup can always be recomputed from the raw tables, which is what {@link #rebuild()} does and what
+ * {@link #check()} compares it against.
+ * <p>
+ * Writers only ever add to the rollup, with atomic upserts, and take no locks for it. A rebuild therefore
+ * never overwrites rows: it reads the raw tables and the rollup from one snapshot and adds the difference between
+ * them. A writer committing during the rebuild is either in that snapshot on both sides, and cancels out of the
+ * difference, or on neither side, and its own upsert counts it.
+ */
+@Slf4j
+@Service
+public class UserActivityService {
+
+    private final UserDailyActivityRepository userDailyActivityRepository;
+    private final UserRepository userRepository;
+    private final ConcurrencyRetry concurrencyRetry;
+    private final AtomicLong mismatchedUsers = new AtomicLong();
+
+    public UserActivityService(UserDailyActivityRepository userDailyActivityRepository, UserRepository userRepository, ConcurrencyRetry concurrencyRetry, MeterRegistry meterRegistry) {
+        this.userDailyActivityRepository = userDailyActivityRepository;
+        this.userRepository = userRepository;
+        this.concurrencyRetry = concurrencyRetry;
+
+        Gauge.builder("user.activity.mismatches", mismatchedUsers, AtomicLong::get)
+                .description("Users whose daily activity rollup differed from the raw tables at the last check")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Applies the changes in the caller's transaction, one upsert per (user, day) in key order.
+     */
+    public void record(UserActivityChanges changes) {
+        for (UserDailyActivity change : changes.getChanges()) {
+            if (!change.isEmpty()) {
+                add(change);
+            }
+        }
+    }
+
+    public UserActivityTotals getTotals(UUID userId, LocalDate startDate, LocalDate endDate) {
+        return userDailyActivityRepository.sumByUserIdAndActivityDateBetween(userId, startDate, endDate);
+    }
+
+    public boolean isEmpty() {
+        return userDailyActivityRepository.count() == 0;
+    }
+
+    /**
+     * Recomputes the rollup of every user from the raw tables, each user in its own transaction.
+     */
+    public int rebuild() {
+        List<UUID> userIds = userRepository.findAllIds();
+
+        for (UUID userId : userIds) {
+            rebuild(userId);
+        }
+
+        log.info("Scheduler: Rebuilt the daily activity of {} users", userIds.size());
+
+        return userIds.size();
+    }
+
+    /**
+     * Brings the rows of the user in line with the raw tables. Runs at REPEATABLE READ so that the rollup and the raw
+     * tables are read from the same snapshot. The lock on the user row is taken before that snapshot and keeps a second
+     * rebuild of the user from applying the same difference again; writers do not take it.
+     */
+    public void rebuild(UUID userId) {
+        concurrencyRetry.run("activity.rebuild", TransactionDefinition.ISOLATION_REPEATABLE_READ, () -> {
+            userRepository.lockAllById(List.of(userId));
+
+            Map<UserDailyActivityId, UserDailyActivity> corrections = compute(userId);
+            userDailyActivityRepository.findAllByUserId(userId).forEach(row -> corrections
+                    .computeIfAbsent(row.getId(), UserDailyActivity::empty)
+                    .subtract(row));
+
+            corrections.values().stream()
+                    .filter(correction -> !correction.isEmpty())
+                    .forEach(this::add);
+        });
+    }
+
+    /**
+     * Compares the rollup of every user with the raw tables and returns the users whose rows differ.
+     */
+    public List<UUID> check() {
+        List<UUID> mismatched = new ArrayList<>();
+
+        for (UUID userId : userRepository.findAllIds()) {
+            Map<UserDailyActivityId, UserDailyActivity> expected = compute(userId);
+            Map<UserDailyActivityId, UserDailyActivity> actual = userDailyActivityRepository.findAllByUserId(userId).stream()
+                    .filter(row -> !row.isEmpty())
+                    .collect(Collectors.toMap(UserDailyActivity::getId, row -> row));
+
+            boolean matches = expected.keySet().equals(actual.keySet())
+                    && expected.entrySet().stream().allMatch(entry -> entry.getValue().hasSameTotals(actual.get(entry.getKey())));
+
+            if (!matches) {
+                log.warn("Scheduler: Daily activity of user {} differs from the raw tables", userId);
+                mismatched.add(userId);
+            }
+        }
+
+        mismatchedUsers.set(mismatched.size());
+        log.info("Scheduler: Checked the daily activity rollup, {} users differ from the raw tables", mismatched.size());
+
+        return mismatched;
+    }
+
+    private Map<UserDailyActivityId, UserDailyActivity> compute(UUID userId) {
+        Map<UserDailyActivityId, UserDailyActivity> days = new TreeMap<>();
+
+        userDailyActivityRepository.sumClaimsByDay(userId).forEach(row -> merge(days, row));
+        userDailyActivityRepository.sumTransactionsByDay(userId).forEach(row -> merge(days, row));
+
+        return days;
+    }
+
+    private static void merge(Map<UserDailyActivityId, UserDailyActivity> days, UserDailyActivity row) {
+        days.merge(row.getId(), row, (day, other) -> {
+            day.add(other);
+            return day;
+        });
+    }
+
+    private void add(UserDailyActivity change) {
+        userDailyActivityRepository.add(change.getUserId(), change.getActivityDate(), change.getClaims(), change.getApprovedClaims(),
+                change.getRejectedClaims(), change.getTransactions(), change.getPaidAmount().toBigDecimal());
+    }
+}
@@ -0,0 +1,85 @@
+package app.claim.intake;
+
+import app.claim.model.Claim;
+import app.configuration.ClaimIntakeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded hand-over of newly submitted claims to the intake evaluators. There is one queue per evaluator and a claim
+ * is routed by its user id, so claims of the same user are always evaluated by the same evaluator in order.
+ */
+@Slf4j
+@Component
+public class ClaimIntakeQueue {
+
+    private final ClaimIntakeProperties claimIntakeProperties;
+    private final List<BlockingQueue<UUID>> partitions = new ArrayList<>();
+    private final Counter droppedClaims;
+
+    public ClaimIntakeQueue(ClaimIntakeProperties claimIntakeProperties, MeterRegistry meterRegistry) {
+        this.claimIntakeProperties = claimIntakeProperties;
+
+        for (int i = 0; i < Math.max(1, claimIntakeProperties.getWorkers()); i++) {
+            partitions.add(new ArrayBlockingQueue<>(claimIntakeProperties.getQueueCapacity()));
+        }
+
+        this.droppedClaims = Counter.builder("claims.intake.dropped")
+                .description("Submitted claims that did not fit into the intake queue and are left to the scheduled sweep")
+                .register(meterRegistry);
+        Gauge.builder("claims.intake.queued", partitions, queues -> queues.stream().mapToInt(BlockingQueue::size).sum())
+                .description("Submitted claims waiting for an intake evaluator")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes the claim once the surrounding transaction has committed, or right away when there is none.
+     */
+    public void publish(Claim claim) {
+        if (!claimIntakeProperties.isEnabled()) {
+            return;
+        }
+
+        UUID claimId = claim.getId();
+        UUID userId = claim.getUser().getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(claimId, userId);
+                }
+            });
+        } else {
+            offer(claimId, userId);
+        }
+    }
+
+    public int partitionCount() {
+        return partitions.size();
+    }
+
+    public BlockingQueue<UUID> partition(int index) {
+        return partitions.get(index);
+    }
+
+    private void offer(UUID claimId, UUID userId) {
+        BlockingQueue<UUID> partition = partitions.get(Math.floorMod(userId.hashCode(), partitions.size()));
+
+        if (!partition.offer(claimId)) {
+            droppedClaims.increment();
+            log.warn("Intake queue is full, claim {} is left to the scheduled evaluation", claimId);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package app.claim.intake;
+
+import app.claim.service.ClaimService;
+import app.configuration.ClaimIntakeProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Intake evaluators. Each one owns a partition of the {@link ClaimIntakeQueue} and evaluates what it drains from it in
+ * micro-batches, one transaction per batch. A failed batch stays OPEN and is picked up by the scheduled safety sweep.
+ */
+@Slf4j
+@Component
+public class ClaimIntakeWorkers implements SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final ClaimIntakeQueue claimIntakeQueue;
+    private final ClaimService claimService;
+    private final ClaimIntakeProperties claimIntakeProperties;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public ClaimIntakeWorkers(ClaimIntakeQueue claimIntakeQueue, ClaimService claimService, ClaimIntakeProperties claimIntakeProperties) {
+        this.claimIntakeQueue = claimIntakeQueue;
+        this.claimService = claimService;
+        this.claimIntakeProperties = claimIntakeProperties;
+    }
+
+    @Override
+    public void start() {
+        if (!claimIntakeProperties.isEnabled()) {
+            return;
+        }
+
+        running = true;
+
+        for (int i = 0; i < claimIntakeQueue.partitionCount(); i++) {
+            BlockingQueue<UUID> partition = claimIntakeQueue.partition(i);
+            Thread worker = new Thread(() -> drain(partition), "claim-intake-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+
+        log.info("Started {} claim intake evaluators", workers.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain(BlockingQueue<UUID> partition) {
+        int batchSize = Math.max(1, claimIntakeProperties.getBatchSize());
+
+        while (running) {
+            List<UUID> batch = new ArrayList<>(batchSize);
+
+            try {
+                UUID first = partition.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                partition.drainTo(batch, batchSize - 1);
+
+                claimService.evaluateSubmittedClaims(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Intake evaluation of {} claims failed, they are left to the scheduled evaluation", batch.size(), e);
+            }
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package app.claim.model;
 
 import app.user.model.User;
+import app.utility.Money;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -14,12 +14,26 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "ix_claim_user_deleted_updated_on", columnList = "user_id, deleted, updatedOn"),
+        @Index(name = "ix_claim_user_deleted_created_on", columnList = "user_id, deleted, createdOn"),
+        @Index(name = "ix_claim_status_created_on", columnList = "claimStatus, createdOn, id"),
+        @Index(name = "ix_claim_status_due_on", columnList = "claimStatus, dueOn, id"),
+        @Index(name = "ix_claim_updated_on", columnList = "updatedOn")
+})
 public class Claim {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    /**
+     * Makes every status transition a compare-and-set: the UPDATE only matches the version that was read, so of two
+     * evaluators deciding the same claim only the first one commits.
+     */
+    @Version
+    private long version;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private ClaimType claimType;
@@ -29,7 +43,7 @@ public class Claim {
     private ClaimStatus claimStatus;
 
     @Column(nullable = false)
-    private BigDecimal requestedAmount;
+    private Money requestedAmount;
 
     @Column(nullable = false)
     private String attachedDocument;
@@ -42,10 +56,36 @@ public class Claim {
     @Column(nullable = false)
     private LocalDateTime updatedOn;
 
+    /**
+     * Time by which the claim should be decided, the creation time plus the target decision time of its type. The
+     * prioritized evaluation leases claims in this order; claims that predate the column have none and come first.
+     */
+    private LocalDateTime dueOn;
+
     @Column(nullable = false)
     private boolean deleted;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+
+    /**
+     * Evaluator node currently holding the claim, see {@link app.claim.service.ClaimWorkQueue}.
+     */
+    @Column(length = 64)
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresOn;
+
+    /**
+     * Status as shown to readers: when review eligibility is derived, an OPEN claim created no later than
+     * {@code reviewCutoff} counts as FOR_REVIEW. A {@code null} cutoff returns the stored status.
+     */
+    public ClaimStatus getEffectiveStatus(LocalDateTime reviewCutoff) {
+        if (reviewCutoff != null && claimStatus == ClaimStatus.OPEN && !createdOn.isAfter(reviewCutoff)) {
+            return ClaimStatus.FOR_REVIEW;
+        }
+
+        return claimStatus;
+    }
 }
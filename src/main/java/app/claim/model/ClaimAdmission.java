@@ -0,0 +1,5 @@
+package app.claim.model;
+
+public enum ClaimAdmission {
+    ACCEPTED, DELAYED, REJECTED
+}
@@ -0,0 +1,48 @@
+package app.claim.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of one run of the claim evaluation job. While the run is going, its chunks advance the
+ * {@link ClaimEvaluationCheckpointPartition partition rows} of the run, which are folded into {@code processed} when it
+ * completes or resumes. A run without {@code completedOn} was interrupted and is continued by the next run instead of
+ * starting a new one.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class ClaimEvaluationCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private LocalDateTime startedOn;
+
+    /**
+     * When the run was started or last resumed, together with {@code processedOnResume} the base of the current rate.
+     */
+    @Column(nullable = false)
+    private LocalDateTime resumedOn;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedOn;
+
+    private LocalDateTime completedOn;
+
+    private int restarts;
+
+    private long processed;
+
+    private long processedOnResume;
+
+    private long remaining;
+}
@@ -0,0 +1,33 @@
+package app.claim.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Claims evaluated by one partition of a running {@link ClaimEvaluationCheckpoint run}, advanced in the transaction of
+ * every chunk of that partition. Parallel partitions each advance their own row, so their chunk transactions never
+ * wait on each other for the checkpoint. The rows are folded into the run when it completes or resumes.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(ClaimEvaluationCheckpointPartitionId.class)
+public class ClaimEvaluationCheckpointPartition {
+
+    @Id
+    private UUID checkpointId;
+
+    @Id
+    private int partitionIndex;
+
+    private long processed;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedOn;
+}
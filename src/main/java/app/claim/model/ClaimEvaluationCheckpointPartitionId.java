@@ -0,0 +1,20 @@
+package app.claim.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimEvaluationCheckpointPartitionId implements Serializable {
+
+    private UUID checkpointId;
+
+    private int partitionIndex;
+}
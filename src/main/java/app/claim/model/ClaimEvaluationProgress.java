@@ -0,0 +1,37 @@
+package app.claim.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Snapshot of the latest claim evaluation run as reported by the {@code claimevaluation} actuator endpoint. The rate
+ * covers the time since the run was started or last resumed, and the ETA assumes the rest is evaluated at that rate.
+ */
+@Getter
+@Builder
+public class ClaimEvaluationProgress {
+
+    private UUID jobId;
+
+    private boolean completed;
+
+    private LocalDateTime startedOn;
+
+    private LocalDateTime updatedOn;
+
+    private LocalDateTime completedOn;
+
+    private int restarts;
+
+    private long processed;
+
+    private long remaining;
+
+    private double claimsPerSecond;
+
+    private Duration eta;
+}
@@ -0,0 +1,18 @@
+package app.claim.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ClaimKey {
+
+    private UUID id;
+
+    private UUID userId;
+
+    private LocalDateTime createdOn;
+}
@@ -0,0 +1,20 @@
+package app.claim.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A saved claim together with the backlog admission it was submitted under.
+ */
+@Getter
+@AllArgsConstructor
+public class ClaimSubmission {
+
+    private Claim claim;
+
+    private ClaimAdmission admission;
+
+    public boolean isDelayed() {
+        return admission == ClaimAdmission.DELAYED;
+    }
+}
@@ -0,0 +1,41 @@
+package app.claim.repository;
+
+import app.claim.model.ClaimEvaluationCheckpointPartition;
+import app.claim.model.ClaimEvaluationCheckpointPartitionId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface ClaimEvaluationCheckpointPartitionRepository extends JpaRepository<ClaimEvaluationCheckpointPartition, ClaimEvaluationCheckpointPartitionId> {
+
+    /**
+     * Adds the evaluated claims to the row of the partition, creating it on the first chunk. Uses the same MySQL
+     * upsert as the daily activity rollup.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO claim_evaluation_checkpoint_partition (checkpoint_id, partition_index, processed, updated_on)
+            VALUES (:checkpointId, :partitionIndex, :evaluated, :updatedOn)
+            ON DUPLICATE KEY UPDATE processed = processed + :evaluated, updated_on = :updatedOn
+            """, nativeQuery = true)
+    int advance(@Param("checkpointId") UUID checkpointId,
+                @Param("partitionIndex") int partitionIndex,
+                @Param("evaluated") long evaluated,
+                @Param("updatedOn") LocalDateTime updatedOn);
+
+    @Query("SELECT COALESCE(SUM(p.processed), 0) FROM ClaimEvaluationCheckpointPartition p WHERE p.checkpointId = :checkpointId")
+    long sumProcessed(@Param("checkpointId") UUID checkpointId);
+
+    @Query("SELECT MAX(p.updatedOn) FROM ClaimEvaluationCheckpointPartition p WHERE p.checkpointId = :checkpointId")
+    LocalDateTime findLastUpdatedOn(@Param("checkpointId") UUID checkpointId);
+
+    @Modifying
+    @Query("DELETE FROM ClaimEvaluationCheckpointPartition p WHERE p.checkpointId = :checkpointId")
+    int deleteAllByCheckpointId(@Param("checkpointId") UUID checkpointId);
+}
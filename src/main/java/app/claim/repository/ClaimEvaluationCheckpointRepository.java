@@ -0,0 +1,32 @@
+package app.claim.repository;
+
+import app.claim.model.ClaimEvaluationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ClaimEvaluationCheckpointRepository extends JpaRepository<ClaimEvaluationCheckpoint, UUID> {
+
+    Optional<ClaimEvaluationCheckpoint> findFirstByOrderByStartedOnDesc();
+
+    Optional<ClaimEvaluationCheckpoint> findFirstByCompletedOnIsNullOrderByStartedOnDesc();
+
+    boolean existsByCompletedOnIsNull();
+
+    /**
+     * Completes the run, adding the claims its partitions processed since the last fold.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE ClaimEvaluationCheckpoint c
+            SET c.processed = c.processed + :processed, c.remaining = 0, c.updatedOn = :completedOn, c.completedOn = :completedOn
+            WHERE c.id = :id""")
+    int complete(@Param("id") UUID id, @Param("processed") long processed, @Param("completedOn") LocalDateTime completedOn);
+}
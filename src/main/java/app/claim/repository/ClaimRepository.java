@@ -1,12 +1,19 @@
 package app.claim.repository;
 
 import app.claim.model.Claim;
+import app.claim.model.ClaimKey;
 import app.claim.model.ClaimStatus;
 import app.user.model.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,9 +22,95 @@ public interface ClaimRepository extends JpaRepository<Claim, UUID> {
 
     List<Claim> findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(User user);
 
+    long countByClaimStatus(ClaimStatus claimStatus);
+
+    long countByClaimStatusIn(Collection<ClaimStatus> claimStatuses);
+
+    long countByClaimStatusAndCreatedOnLessThanEqual(ClaimStatus claimStatus, LocalDateTime createdBefore);
+
+    List<Claim> findAllByUserAndDeletedFalseOrderByUpdatedOnDescIdDesc(User user, Limit limit);
+
+    @Query("""
+            SELECT c FROM Claim c
+            WHERE c.user = :user AND c.deleted = false
+              AND (c.updatedOn < :updatedOn OR (c.updatedOn = :updatedOn AND c.id < :id))
+            ORDER BY c.updatedOn DESC, c.id DESC
+            """)
+    List<Claim> findAllByUserBefore(@Param("user") User user,
+                                    @Param("updatedOn") LocalDateTime updatedOn,
+                                    @Param("id") UUID id,
+                                    Limit limit);
+
     List<Claim> findAllByClaimStatus(ClaimStatus claimStatus);
 
-    List<Claim> findAllByUserAndDeletedFalseAndCreatedOnBetween(User user, LocalDateTime startDate, LocalDateTime endDate);
+    List<Claim> findAllByClaimStatusAndCreatedOnLessThanEqual(ClaimStatus claimStatus, LocalDateTime createdBefore);
+
+    List<Claim> findAllByClaimStatusAndCreatedOnAfter(ClaimStatus claimStatus, LocalDateTime createdAfter);
+
+    @Query("""
+            SELECT new app.claim.model.ClaimKey(c.id, c.user.id, c.createdOn) FROM Claim c
+            WHERE c.claimStatus = :claimStatus AND c.createdOn <= :createdBefore
+              AND (c.leaseExpiresOn IS NULL OR c.leaseExpiresOn < :now)
+            ORDER BY c.createdOn, c.id
+            """)
+    List<ClaimKey> findLeasableKeys(@Param("claimStatus") ClaimStatus claimStatus,
+                                    @Param("createdBefore") LocalDateTime createdBefore,
+                                    @Param("now") LocalDateTime now,
+                                    Limit limit);
+
+    @Query("""
+            SELECT new app.claim.model.ClaimKey(c.id, c.user.id, c.createdOn) FROM Claim c
+            WHERE c.claimStatus = :claimStatus AND c.createdOn <= :createdBefore
+              AND (c.leaseExpiresOn IS NULL OR c.leaseExpiresOn < :now)
+            ORDER BY c.dueOn, c.id
+            """)
+    List<ClaimKey> findLeasableKeysByDueOn(@Param("claimStatus") ClaimStatus claimStatus,
+                                           @Param("createdBefore") LocalDateTime createdBefore,
+                                           @Param("now") LocalDateTime now,
+                                           Limit limit);
+
+    /**
+     * Takes the lease of the given claims that are still in the given status and not leased by anyone else. The
+     * condition is re-checked on the locked rows, so of two nodes racing for a claim only one gets it.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Claim c SET c.leaseOwner = :leaseOwner, c.leaseExpiresOn = :leaseExpiresOn
+            WHERE c.id IN :ids AND c.claimStatus = :claimStatus
+              AND (c.leaseExpiresOn IS NULL OR c.leaseExpiresOn < :now)
+            """)
+    int lease(@Param("ids") Collection<UUID> ids,
+              @Param("claimStatus") ClaimStatus claimStatus,
+              @Param("leaseOwner") String leaseOwner,
+              @Param("leaseExpiresOn") LocalDateTime leaseExpiresOn,
+              @Param("now") LocalDateTime now);
+
+    @Query("SELECT c.id FROM Claim c WHERE c.id IN :ids AND c.leaseOwner = :leaseOwner")
+    List<UUID> findLeasedIds(@Param("ids") Collection<UUID> ids, @Param("leaseOwner") String leaseOwner);
+
+    /**
+     * Evaluation reads the claimant's balance and policy limits for every claim, so they are fetched in the same select.
+     */
+    @EntityGraph(attributePaths = "user")
+    List<Claim> findAllByIdInAndClaimStatusAndLeaseOwnerOrderByCreatedOnAscIdAsc(Collection<UUID> ids, ClaimStatus claimStatus, String leaseOwner);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Claim c SET c.claimStatus = :newStatus, c.updatedOn = :updatedOn, c.version = c.version + 1
+            WHERE c.claimStatus = :currentStatus AND c.createdOn <= :createdBefore
+              AND (c.leaseExpiresOn IS NULL OR c.leaseExpiresOn < :updatedOn)
+            """)
+    int updateClaimStatus(@Param("currentStatus") ClaimStatus currentStatus,
+                          @Param("newStatus") ClaimStatus newStatus,
+                          @Param("createdBefore") LocalDateTime createdBefore,
+                          @Param("updatedOn") LocalDateTime updatedOn);
+
+    List<Claim> findAllByOrderByUpdatedOnDescIdDesc(Limit limit);
 
-    List<Claim> findAllByOrderByUpdatedOnDesc();
+    @Query("""
+            SELECT c FROM Claim c
+            WHERE c.updatedOn < :updatedOn OR (c.updatedOn = :updatedOn AND c.id < :id)
+            ORDER BY c.updatedOn DESC, c.id DESC
+            """)
+    List<Claim> findAllBefore(@Param("updatedOn") LocalDateTime updatedOn, @Param("id") UUID id, Limit limit);
 }
@@ -0,0 +1,47 @@
+package app.claim.rule;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimType;
+import app.policy.model.Policy;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+@Component
+public class AttachedDocumentRule implements ClaimRule {
+
+    private static final Map<ClaimType, String> DOCUMENT_KEYWORDS = new EnumMap<>(Map.of(
+            ClaimType.MEDICATION_EXPENSES, "medication",
+            ClaimType.HOSPITAL_TREATMENT_EXPENSES, "hospital_treatment",
+            ClaimType.SURGERY_EXPENSES, "surgery",
+            ClaimType.DENTAL_SERVICE_EXPENSES, "dental_service"));
+
+    @Override
+    public Predicate<Claim> compile(ClaimType claimType, Policy policy) {
+        String keyword = DOCUMENT_KEYWORDS.get(claimType);
+
+        return claim -> {
+            String document = claim.getAttachedDocument();
+            return document.contains(keyword) || containsIgnoreCase(document, keyword);
+        };
+    }
+
+    static boolean containsIgnoreCase(String text, String keyword) {
+        int keywordLength = keyword.length();
+        int lastStart = text.length() - keywordLength;
+        char first = keyword.charAt(0);
+        char firstUpper = Character.toUpperCase(first);
+
+        for (int i = 0; i <= lastStart; i++) {
+            char current = text.charAt(i);
+
+            if ((current == first || current == firstUpper) && text.regionMatches(true, i, keyword, 0, keywordLength)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
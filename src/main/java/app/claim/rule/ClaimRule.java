@@ -0,0 +1,19 @@
+package app.claim.rule;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimType;
+import app.policy.model.Policy;
+
+import java.util.function.Predicate;
+
+/**
+ * Extension point for claim eligibility checks. Every bean implementing it is compiled by {@link ClaimRuleEngine} into
+ * the per-policy rule table, so a new check does not add a branch to the evaluation loop.
+ */
+public interface ClaimRule {
+
+    /**
+     * Compiles the check for one claim type of a policy snapshot. The returned predicate accepts the claims that pass.
+     */
+    Predicate<Claim> compile(ClaimType claimType, Policy policy);
+}
@@ -0,0 +1,93 @@
+package app.claim.rule;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimType;
+import app.policy.model.Policy;
+import app.utility.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Compiles the registered {@link ClaimRule}s into one {@link ClaimRuleTable} per policy snapshot. Tables are cached by
+ * policy id and update time, so a batch judging claims against different limit versions of the same policy compiles
+ * every version once, and deciding a claim costs two lookups.
+ */
+@Slf4j
+@Component
+public class ClaimRuleEngine {
+
+    private final List<ClaimRule> claimRules;
+    private final Map<UUID, Map<LocalDateTime, ClaimRuleTable>> ruleTables = new ConcurrentHashMap<>();
+
+    public ClaimRuleEngine(List<ClaimRule> claimRules) {
+        this.claimRules = claimRules;
+    }
+
+    public ClaimRuleTable rulesFor(Policy policy) {
+        if (policy.getId() == null) {
+            return compile(policy);
+        }
+
+        Map<LocalDateTime, ClaimRuleTable> versions = ruleTables.computeIfAbsent(policy.getId(), id -> new ConcurrentHashMap<>());
+        ClaimRuleTable ruleTable = versions.get(policy.getUpdatedOn());
+
+        if (ruleTable == null) {
+            ruleTable = compile(policy);
+            versions.put(policy.getUpdatedOn(), ruleTable);
+            log.info("Compiled claim rules for policy [{}] updated on {}", policy.getPolicyType().getDisplayName(), policy.getUpdatedOn());
+        }
+
+        return ruleTable;
+    }
+
+    public ClaimRuleTable compile(Policy policy) {
+        EnumMap<ClaimType, CompiledClaimRule> rules = new EnumMap<>(ClaimType.class);
+
+        for (ClaimType claimType : ClaimType.values()) {
+            Predicate<Claim> eligibility = claimRules.stream()
+                    .map(rule -> rule.compile(claimType, policy))
+                    .reduce(Predicate::and)
+                    .orElse(claim -> true);
+
+            rules.put(claimType, new CompiledClaimRule(eligibility, limitInMinorUnits(claimType, policy)));
+        }
+
+        return new ClaimRuleTable(rules);
+    }
+
+    /**
+     * Rounds the limit down to whole cents. Requested amounts never have more than two decimal places, so a claim is
+     * within the rounded limit exactly when it is within the stored one, and a limit saved with more precision than
+     * {@link Money} holds cannot fail the evaluation of every claim under the policy.
+     */
+    private static long limitInMinorUnits(ClaimType claimType, Policy policy) {
+        BigDecimal limit = limitFor(claimType, policy);
+        BigDecimal minorUnits = limit.movePointRight(Money.SCALE).setScale(0, RoundingMode.FLOOR);
+
+        if (minorUnits.compareTo(limit.movePointRight(Money.SCALE)) != 0) {
+            log.warn("Limit {} of policy [{}] for {} has more than {} decimal places, rounded down", limit,
+                    policy.getPolicyType().getDisplayName(), claimType, Money.SCALE);
+        }
+
+        return minorUnits.min(BigDecimal.valueOf(Long.MAX_VALUE)).longValue();
+    }
+
+    private static BigDecimal limitFor(ClaimType claimType, Policy policy) {
+        return switch (claimType) {
+            case MEDICATION_EXPENSES -> policy.getLimitForMedications();
+            case HOSPITAL_TREATMENT_EXPENSES -> policy.getLimitForHospitalTreatment();
+            case SURGERY_EXPENSES -> policy.getLimitForSurgery();
+            case DENTAL_SERVICE_EXPENSES -> policy.getLimitForDentalService();
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package app.claim.rule;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimType;
+
+import java.util.EnumMap;
+
+/**
+ * Compiled rules of one policy snapshot, indexed by claim type.
+ */
+public class ClaimRuleTable {
+
+    private final EnumMap<ClaimType, CompiledClaimRule> rules;
+
+    public ClaimRuleTable(EnumMap<ClaimType, CompiledClaimRule> rules) {
+        this.rules = rules;
+    }
+
+    public boolean approves(Claim claim) {
+        return rules.get(claim.getClaimType()).approves(claim);
+    }
+
+    public CompiledClaimRule getRule(ClaimType claimType) {
+        return rules.get(claimType);
+    }
+}
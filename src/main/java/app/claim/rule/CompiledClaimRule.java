@@ -0,0 +1,23 @@
+package app.claim.rule;
+
+import app.claim.model.Claim;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.function.Predicate;
+
+@Getter
+@AllArgsConstructor
+public class CompiledClaimRule {
+
+    private final Predicate<Claim> eligibility;
+
+    /**
+     * Policy limit in cents, converted once when the rule is compiled.
+     */
+    private final long limit;
+
+    public boolean approves(Claim claim) {
+        return claim.getRequestedAmount().getMinorUnits() <= limit && eligibility.test(claim);
+    }
+}
@@ -0,0 +1,17 @@
+package app.claim.rule;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimType;
+import app.policy.model.Policy;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Predicate;
+
+@Component
+public class PositiveAmountRule implements ClaimRule {
+
+    @Override
+    public Predicate<Claim> compile(ClaimType claimType, Policy policy) {
+        return claim -> claim.getRequestedAmount().getMinorUnits() > 0;
+    }
+}
@@ -0,0 +1,87 @@
+package app.claim.service;
+
+import app.claim.model.ClaimAdmission;
+import app.claim.model.ClaimStatus;
+import app.claim.repository.ClaimRepository;
+import app.configuration.ClaimIntakeProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of undecided claims, kept in memory so that admitting a submission costs no query. The count goes up with
+ * every claim submitted on this node once its transaction has committed and down with every claim evaluated here, and
+ * is replaced by a fresh count from the database at a fixed interval, which picks up the work of the other nodes and
+ * corrects any drift from rolled back transactions.
+ */
+@Slf4j
+@Component
+public class ClaimBacklog {
+
+    private final ClaimRepository claimRepository;
+    private final ClaimIntakeProperties claimIntakeProperties;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public ClaimBacklog(ClaimRepository claimRepository, ClaimIntakeProperties claimIntakeProperties, MeterRegistry meterRegistry) {
+        this.claimRepository = claimRepository;
+        this.claimIntakeProperties = claimIntakeProperties;
+
+        Gauge.builder("claims.backlog", backlog, AtomicLong::get)
+                .description("Submitted claims that are not decided yet")
+                .register(meterRegistry);
+    }
+
+    public long size() {
+        return backlog.get();
+    }
+
+    /**
+     * Tells whether a new claim is accepted, accepted with a longer expected time to decision, or turned away.
+     */
+    public ClaimAdmission admit() {
+        long size = backlog.get();
+
+        if (size >= claimIntakeProperties.getBacklogHardLimit()) {
+            return ClaimAdmission.REJECTED;
+        }
+
+        return size >= claimIntakeProperties.getBacklogSoftLimit() ? ClaimAdmission.DELAYED : ClaimAdmission.ACCEPTED;
+    }
+
+    /**
+     * Counts a submitted claim once the surrounding transaction has committed, or right away when there is none.
+     */
+    public void submitted() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    backlog.incrementAndGet();
+                }
+            });
+        } else {
+            backlog.incrementAndGet();
+        }
+    }
+
+    public void decided(int claims) {
+        backlog.updateAndGet(size -> Math.max(0, size - claims));
+    }
+
+    @Scheduled(fixedDelayString = "${claims.intake.backlog-resync-interval}")
+    public void resync() {
+        long undecided = claimRepository.countByClaimStatusIn(List.of(ClaimStatus.OPEN, ClaimStatus.FOR_REVIEW));
+        long previous = backlog.getAndSet(undecided);
+
+        if (previous != undecided) {
+            log.debug("Intake: Backlog resynced from {} to {} claims", previous, undecided);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package app.claim.service;
+
+import app.claim.model.ClaimEvaluationCheckpoint;
+import app.claim.model.ClaimEvaluationProgress;
+import app.claim.repository.ClaimEvaluationCheckpointPartitionRepository;
+import app.claim.repository.ClaimEvaluationCheckpointRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps the checkpoint of the claim evaluation job. The backlog is counted once when a run begins or resumes, and every
+ * chunk advances the checkpoint in its own transaction, so the counts commit or roll back together with the chunk. Each
+ * partition of a parallel run counts in its own row, so the partitions do not serialize their commits on one checkpoint
+ * row. The checkpoint survives a crash of the run and the next run picks it up where it stopped.
+ */
+@Slf4j
+@Service
+public class ClaimEvaluationCheckpointService {
+
+    private final ClaimEvaluationCheckpointRepository checkpointRepository;
+    private final ClaimEvaluationCheckpointPartitionRepository partitionRepository;
+
+    public ClaimEvaluationCheckpointService(ClaimEvaluationCheckpointRepository checkpointRepository, ClaimEvaluationCheckpointPartitionRepository partitionRepository) {
+        this.checkpointRepository = checkpointRepository;
+        this.partitionRepository = partitionRepository;
+    }
+
+    /**
+     * Resumes the interrupted run, if there is one, or starts a new one.
+     */
+    @Transactional
+    public UUID begin(long remaining) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<ClaimEvaluationCheckpoint> interrupted = checkpointRepository.findFirstByCompletedOnIsNullOrderByStartedOnDesc();
+
+        if (interrupted.isPresent()) {
+            ClaimEvaluationCheckpoint checkpoint = interrupted.get();
+            checkpoint.setProcessed(checkpoint.getProcessed() + partitionRepository.sumProcessed(checkpoint.getId()));
+            partitionRepository.deleteAllByCheckpointId(checkpoint.getId());
+            checkpoint.setRestarts(checkpoint.getRestarts() + 1);
+            checkpoint.setResumedOn(now);
+            checkpoint.setProcessedOnResume(checkpoint.getProcessed());
+            checkpoint.setRemaining(remaining);
+            checkpoint.setUpdatedOn(now);
+
+            log.info("Scheduler: Resuming claim evaluation {} after {} claims, {} remaining", checkpoint.getId(), checkpoint.getProcessed(), remaining);
+
+            return checkpointRepository.save(checkpoint).getId();
+        }
+
+        ClaimEvaluationCheckpoint checkpoint = ClaimEvaluationCheckpoint.builder()
+                .startedOn(now)
+                .resumedOn(now)
+                .updatedOn(now)
+                .remaining(remaining)
+                .build();
+
+        return checkpointRepository.save(checkpoint).getId();
+    }
+
+    /**
+     * Counts the evaluated claims of a chunk as processed by the given partition. Joins the transaction of the chunk.
+     */
+    @Transactional
+    public void advance(UUID jobId, int partition, int evaluated) {
+        partitionRepository.advance(jobId, partition, evaluated, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void complete(UUID jobId) {
+        checkpointRepository.complete(jobId, partitionRepository.sumProcessed(jobId), LocalDateTime.now());
+        partitionRepository.deleteAllByCheckpointId(jobId);
+    }
+
+    public boolean hasInterruptedRun() {
+        return checkpointRepository.existsByCompletedOnIsNull();
+    }
+
+    public Optional<ClaimEvaluationProgress> getProgress() {
+        return checkpointRepository.findFirstByOrderByStartedOnDesc().map(this::toProgress);
+    }
+
+    /**
+     * Adds the counts of the partitions that have not been folded into the run yet.
+     */
+    private ClaimEvaluationProgress toProgress(ClaimEvaluationCheckpoint checkpoint) {
+        long processedByPartitions = partitionRepository.sumProcessed(checkpoint.getId());
+        long processed = checkpoint.getProcessed() + processedByPartitions;
+        long remaining = Math.max(0, checkpoint.getRemaining() - processedByPartitions);
+
+        LocalDateTime updatedOn = checkpoint.getUpdatedOn();
+        LocalDateTime partitionUpdatedOn = partitionRepository.findLastUpdatedOn(checkpoint.getId());
+        if (partitionUpdatedOn != null && partitionUpdatedOn.isAfter(updatedOn)) {
+            updatedOn = partitionUpdatedOn;
+        }
+
+        long elapsedMillis = Duration.between(checkpoint.getResumedOn(), updatedOn).toMillis();
+        long processedSinceResume = processed - checkpoint.getProcessedOnResume();
+        double claimsPerSecond = elapsedMillis > 0 ? processedSinceResume * 1000.0 / elapsedMillis : 0;
+
+        Duration eta = null;
+        if (checkpoint.getCompletedOn() == null && claimsPerSecond > 0) {
+            eta = Duration.ofMillis((long) (remaining * 1000 / claimsPerSecond));
+        }
+
+        return ClaimEvaluationProgress.builder()
+                .jobId(checkpoint.getId())
+                .completed(checkpoint.getCompletedOn() != null)
+                .startedOn(checkpoint.getStartedOn())
+                .updatedOn(updatedOn)
+                .completedOn(checkpoint.getCompletedOn())
+                .restarts(checkpoint.getRestarts())
+                .processed(processed)
+                .remaining(remaining)
+                .claimsPerSecond(claimsPerSecond)
+                .eta(eta)
+                .build();
+    }
+}
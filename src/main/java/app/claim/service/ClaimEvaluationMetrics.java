@@ -0,0 +1,27 @@
+package app.claim.service;
+
+import app.claim.model.Claim;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+public class ClaimEvaluationMetrics {
+
+    private final Timer timeToDecision;
+
+    public ClaimEvaluationMetrics(MeterRegistry meterRegistry) {
+        this.timeToDecision = Timer.builder("claims.time.to.decision")
+                .description("Time from claim submission to its approval or rejection")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void recordDecision(Claim claim, LocalDateTime decidedOn) {
+        timeToDecision.record(Duration.between(claim.getCreatedOn(), decidedOn));
+    }
+}
@@ -0,0 +1,26 @@
+package app.claim.service;
+
+import app.claim.model.ClaimEvaluationProgress;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the progress of the latest claim evaluation run at {@code /actuator/claimevaluation}. Answers 404 while the
+ * job has never run.
+ */
+@Component
+@Endpoint(id = "claimevaluation")
+public class ClaimEvaluationProgressEndpoint {
+
+    private final ClaimEvaluationCheckpointService checkpointService;
+
+    public ClaimEvaluationProgressEndpoint(ClaimEvaluationCheckpointService checkpointService) {
+        this.checkpointService = checkpointService;
+    }
+
+    @ReadOperation
+    public ClaimEvaluationProgress progress() {
+        return checkpointService.getProgress().orElse(null);
+    }
+}
@@ -0,0 +1,45 @@
+package app.claim.service;
+
+import app.configuration.ClaimEvaluationProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of claim evaluation workers used by the parallel evaluation mode. It is deliberately not exposed as an
+ * {@link java.util.concurrent.Executor} bean so it does not replace Spring Boot's application task executor.
+ */
+@Component
+public class ClaimEvaluationWorkers implements DisposableBean {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final int size;
+
+    public ClaimEvaluationWorkers(ClaimEvaluationProperties claimEvaluationProperties) {
+        this.size = Math.max(1, claimEvaluationProperties.getWorkers());
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(size);
+        this.executor.setMaxPoolSize(size);
+        this.executor.setQueueCapacity(size);
+        this.executor.setThreadNamePrefix("claim-evaluation-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.initialize();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
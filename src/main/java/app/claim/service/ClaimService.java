@@ -1,29 +1,52 @@
 package app.claim.service;
 
+import app.activity.model.UserActivityChanges;
+import app.activity.service.UserActivityService;
+import app.claim.intake.ClaimIntakeQueue;
 import app.claim.model.Claim;
+import app.claim.model.ClaimAdmission;
+import app.claim.model.ClaimKey;
 import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimSubmission;
 import app.claim.model.ClaimType;
 import app.claim.repository.ClaimRepository;
+import app.claim.rule.ClaimRuleEngine;
+import app.configuration.ClaimEvaluationProperties;
+import app.configuration.ClaimIntakeProperties;
+import app.configuration.ListingProperties;
 import app.exception.ClaimNotFoundException;
+import app.exception.ClaimSubmissionRejectedException;
 import app.exception.DomainException;
 import app.policy.model.Policy;
+import app.policy.service.PolicyService;
+import app.transaction.model.Transaction;
 import app.transaction.model.TransactionStatus;
 import app.transaction.service.TransactionService;
 import app.user.model.User;
 import app.user.model.UserRole;
 import app.user.service.UserService;
+import app.utility.ConcurrencyRetry;
+import app.utility.KeysetPage;
+import app.utility.Money;
+import app.utility.PageCursor;
 import app.web.dto.ClaimSubmissionRequest;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -33,24 +56,67 @@ public class ClaimService {
     private final UserService userService;
 
     private final TransactionService transactionService;
+    private final ClaimEvaluationProperties claimEvaluationProperties;
+    private final ClaimEvaluationWorkers claimEvaluationWorkers;
+    private final ClaimRuleEngine claimRuleEngine;
+    private final ClaimIntakeQueue claimIntakeQueue;
+    private final ClaimIntakeProperties claimIntakeProperties;
+    private final ClaimEvaluationMetrics claimEvaluationMetrics;
+    private final ListingProperties listingProperties;
+    private final ClaimWorkQueue claimWorkQueue;
+    private final ConcurrencyRetry concurrencyRetry;
+    private final ClaimEvaluationCheckpointService checkpointService;
+    private final ClaimBacklog claimBacklog;
+    private final PolicyService policyService;
+    private final UserActivityService userActivityService;
 
     @Autowired
-    public ClaimService(ClaimRepository claimRepository, UserService userService, TransactionService transactionService) {
+    public ClaimService(ClaimRepository claimRepository, UserService userService, TransactionService transactionService, ClaimEvaluationProperties claimEvaluationProperties, ClaimEvaluationWorkers claimEvaluationWorkers, ClaimRuleEngine claimRuleEngine, ClaimIntakeQueue claimIntakeQueue, ClaimIntakeProperties claimIntakeProperties, ClaimEvaluationMetrics claimEvaluationMetrics, ListingProperties listingProperties, ClaimWorkQueue claimWorkQueue, ConcurrencyRetry concurrencyRetry, ClaimEvaluationCheckpointService checkpointService, ClaimBacklog claimBacklog, PolicyService policyService, UserActivityService userActivityService) {
         this.claimRepository = claimRepository;
         this.userService = userService;
         this.transactionService = transactionService;
+        this.claimEvaluationProperties = claimEvaluationProperties;
+        this.claimEvaluationWorkers = claimEvaluationWorkers;
+        this.claimRuleEngine = claimRuleEngine;
+        this.claimIntakeQueue = claimIntakeQueue;
+        this.claimIntakeProperties = claimIntakeProperties;
+        this.claimEvaluationMetrics = claimEvaluationMetrics;
+        this.listingProperties = listingProperties;
+        this.claimWorkQueue = claimWorkQueue;
+        this.concurrencyRetry = concurrencyRetry;
+        this.checkpointService = checkpointService;
+        this.claimBacklog = claimBacklog;
+        this.policyService = policyService;
+        this.userActivityService = userActivityService;
     }
 
-    public Claim createClaim(ClaimSubmissionRequest claimSubmissionRequest, User user) {
+    /**
+     * Submits a claim unless the backlog of undecided claims is above the hard limit, in which case the submission is
+     * turned away with a {@link ClaimSubmissionRejectedException}. The admission is returned with the claim, so callers
+     * can tell a delayed submission without asking the backlog again.
+     */
+    @Transactional
+    public ClaimSubmission createClaim(ClaimSubmissionRequest claimSubmissionRequest, User user) {
+
+        ClaimAdmission admission = claimBacklog.admit();
+
+        if (admission == ClaimAdmission.REJECTED) {
+            log.warn("Rejected claim of user {}, {} claims are waiting for a decision", user.getUsername(), claimBacklog.size());
+            throw new ClaimSubmissionRejectedException("Too many claims are waiting for a decision, please try again later.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Money requestedAmount = Money.of(claimSubmissionRequest.getRequestedAmount());
 
         Claim claim = Claim.builder()
                 .claimType(claimSubmissionRequest.getClaimType())
                 .claimStatus(ClaimStatus.OPEN)
-                .requestedAmount(claimSubmissionRequest.getRequestedAmount())
+                .requestedAmount(requestedAmount)
                 .attachedDocument(claimSubmissionRequest.getAttachedDocument())
                 .description(claimSubmissionRequest.getDescription())
-                .createdOn(LocalDateTime.now())
-                .updatedOn(LocalDateTime.now())
+                .createdOn(now)
+                .updatedOn(now)
+                .dueOn(getDueOn(claimSubmissionRequest.getClaimType(), requestedAmount, now))
                 .deleted(false)
                 .user(user)
                 .build();
@@ -60,29 +126,58 @@ public class ClaimService {
                 user.getUsername(),
                 claim.getRequestedAmount());
 
-        return claimRepository.save(claim);
+        Claim savedClaim = claimRepository.save(claim);
+        userActivityService.record(new UserActivityChanges().claimCreated(savedClaim));
+        claimBacklog.submitted();
+        claimIntakeQueue.publish(savedClaim);
+
+        return new ClaimSubmission(savedClaim, admission);
     }
 
-    public List<Claim> getClaimsCreatedByUserForPeriod(User user, LocalDate startDate, LocalDate endDate) {
-        return claimRepository.findAllByUserAndDeletedFalseAndCreatedOnBetween(user, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+    /**
+     * Creation time plus the target decision time of the claim type, or of high-value claims when that is sooner. A
+     * waiting claim keeps its due time, so it eventually overtakes newer claims of any type.
+     */
+    private LocalDateTime getDueOn(ClaimType claimType, Money requestedAmount, LocalDateTime createdOn) {
+        Duration target = claimEvaluationProperties.getTargetDecisionTime().getOrDefault(claimType, Duration.ofDays(1));
+        BigDecimal highValueAmount = claimEvaluationProperties.getHighValueAmount();
+
+        if (highValueAmount != null && requestedAmount.compareTo(Money.of(highValueAmount)) >= 0
+                && claimEvaluationProperties.getHighValueTargetDecisionTime().compareTo(target) < 0) {
+            target = claimEvaluationProperties.getHighValueTargetDecisionTime();
+        }
+
+        return createdOn.plus(target);
     }
 
-    public List<Claim> getClaims(User user) {
-        List <Claim> allClaims;
+    /**
+     * Returns the page of claims that follows {@code after} (the first page when it is null), newest first.
+     */
+    public KeysetPage<Claim> getClaims(User user, PageCursor after) {
+        int pageSize = listingProperties.getPageSize();
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Claim> claims;
         if (user.getRole() == UserRole.ADMIN) {
-            allClaims = claimRepository.findAllByOrderByUpdatedOnDesc();
+            claims = after == null
+                    ? claimRepository.findAllByOrderByUpdatedOnDescIdDesc(limit)
+                    : claimRepository.findAllBefore(after.getUpdatedOn(), after.getId(), limit);
         } else {
-            allClaims = claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user);
+            claims = after == null
+                    ? claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDescIdDesc(user, limit)
+                    : claimRepository.findAllByUserBefore(user, after.getUpdatedOn(), after.getId(), limit);
         }
 
-        return allClaims;
+        return KeysetPage.of(claims, pageSize, claim -> new PageCursor(claim.getUpdatedOn(), claim.getId()));
     }
 
+    @Transactional
     public void softDelete(UUID id) {
         Claim claim = getById(id);
         claim.setDeleted(!claim.isDeleted());
         claim.setUpdatedOn(LocalDateTime.now());
         claimRepository.save(claim);
+        userActivityService.record(new UserActivityChanges().claimDeletionToggled(claim));
 
         log.info("Soft delete toggled for claim . Deleted status is now {}", claim.isDeleted());
     }
@@ -96,7 +191,7 @@ public class ClaimService {
         Claim claim = getById(id);
 
         if (user.getRole() != UserRole.ADMIN) {
-            if (!claim.getUser().equals(user) || claim.isDeleted()) {
+            if (!claim.getUser().getId().equals(user.getId()) || claim.isDeleted()) {
                 throw new DomainException("Access denied for this claim");
             }
         }
@@ -104,82 +199,226 @@ public class ClaimService {
         return claim;
     }
 
+    /**
+     * Moves OPEN claims to FOR_REVIEW. While the intake pipeline is enabled, claims younger than the sweep grace period
+     * are left OPEN because the intake evaluators are expected to decide them directly.
+     */
     @Transactional
-    public void moveOpenClaimsToReview() {
-        List<Claim> openClaims = getAllClaimsByStatus(ClaimStatus.OPEN);
+    public int moveOpenClaimsToReview() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdBefore = claimIntakeProperties.isEnabled() ? now.minus(claimIntakeProperties.getSweepGracePeriod()) : now;
+
+        int movedClaims = claimRepository.updateClaimStatus(ClaimStatus.OPEN, ClaimStatus.FOR_REVIEW, createdBefore, now);
 
-        if (openClaims.isEmpty()) {
+        if (movedClaims == 0) {
             log.info("Scheduler: No OPEN claims to process");
-            return;
+            return 0;
         }
 
-        openClaims.forEach(claim -> {
-            claim.setClaimStatus(ClaimStatus.FOR_REVIEW);
-            claim.setUpdatedOn(LocalDateTime.now());
-        });
-
-        claimRepository.saveAll(openClaims);
+        log.info("Scheduler: Moved {} claims from OPEN to FOR_REVIEW", movedClaims);
 
-        log.info("Scheduler: Moved {} claims from OPEN to FOR_REVIEW", openClaims.size());
+        return movedClaims;
     }
 
-    @Transactional
+    /**
+     * Evaluates the FOR_REVIEW backlog in chunks ordered by (createdOn, id). Every chunk is leased through the
+     * {@link ClaimWorkQueue}, so nodes running this job at the same time evaluate disjoint chunks, and is evaluated and
+     * committed in its own transaction, so memory stays bounded by the chunk size and a failure only rolls back the
+     * current chunk. Evaluated claims leave FOR_REVIEW, therefore a restarted run resumes after the last committed chunk.
+     * When review eligibility is derived, the OPEN claims past the review cooling period are evaluated the same way.
+     * <p>
+     * The run is tracked by a {@link ClaimEvaluationCheckpointService checkpoint} that is advanced in the transaction of
+     * every chunk. The backlog is counted once at the start; after that the remaining count only goes down by the
+     * evaluated claims. A run that fails or dies before it completes is continued, with its counts, by the next one.
+     */
     public void evaluateClaims() {
-        List<Claim> claimsForEvaluation = getAllClaimsByStatus(ClaimStatus.FOR_REVIEW);
-
-        claimsForEvaluation.forEach(claim -> {
-            User user = claim.getUser();
-            Policy policy = user.getPolicy();
-
-            if (claim.getRequestedAmount().compareTo(BigDecimal.ZERO) <= 0) {
-                rejectClaim(claim, LocalDateTime.now());
-                user.setUpdatedOn(LocalDateTime.now());
-                userService.persistUser(user);
-                transactionService.create(user, BigDecimal.ZERO, TransactionStatus.FAILED);
-                return;
+        LocalDateTime reviewCutoff = getReviewCutoff();
+        UUID jobId = checkpointService.begin(countPendingClaims(reviewCutoff));
+
+        evaluateBacklog(ClaimStatus.FOR_REVIEW, null, jobId);
+
+        if (reviewCutoff != null) {
+            evaluateBacklog(ClaimStatus.OPEN, reviewCutoff, jobId);
+        }
+
+        checkpointService.complete(jobId);
+    }
+
+    private long countPendingClaims(LocalDateTime reviewCutoff) {
+        long pending = claimRepository.countByClaimStatus(ClaimStatus.FOR_REVIEW);
+
+        if (reviewCutoff != null) {
+            pending += claimRepository.countByClaimStatusAndCreatedOnLessThanEqual(ClaimStatus.OPEN, reviewCutoff);
+        }
+
+        return pending;
+    }
+
+    private void evaluateBacklog(ClaimStatus claimStatus, LocalDateTime createdBefore, UUID jobId) {
+        if (claimEvaluationWorkers.size() > 1) {
+            evaluateBacklogInParallel(claimStatus, createdBefore, jobId);
+            return;
+        }
+
+        int chunkSize = claimEvaluationProperties.getChunkSize();
+        int totalEvaluated = 0;
+
+        while (true) {
+            List<ClaimKey> keys = claimWorkQueue.leaseNext(claimStatus, createdBefore, chunkSize);
+
+            if (keys.isEmpty()) {
+                break;
             }
 
-            String doc = claim.getAttachedDocument().toLowerCase();
-            boolean invalidDoc =
-                    (claim.getClaimType() == ClaimType.MEDICATION_EXPENSES && !doc.contains("medication")) ||
-                            (claim.getClaimType() == ClaimType.HOSPITAL_TREATMENT_EXPENSES && !doc.contains("hospital_treatment")) ||
-                            (claim.getClaimType() == ClaimType.SURGERY_EXPENSES && !doc.contains("surgery")) ||
-                            (claim.getClaimType() == ClaimType.DENTAL_SERVICE_EXPENSES && !doc.contains("dental_service"));
-
-            if (invalidDoc) {
-                rejectClaim(claim, LocalDateTime.now());
-                user.setUpdatedOn(LocalDateTime.now());
-                userService.persistUser(user);
-                transactionService.create(user, BigDecimal.ZERO, TransactionStatus.FAILED);
-                return;
+            List<UUID> claimIds = keys.stream().map(ClaimKey::getId).toList();
+            int evaluated = evaluateLeased(claimIds, claimStatus, jobId, 0);
+
+            totalEvaluated += evaluated;
+            log.info("Scheduler: Committed chunk of {} evaluated claims", evaluated);
+        }
+
+        log.info("Scheduler: Automatically evaluated {} {} claims", totalEvaluated, claimStatus);
+    }
+
+    /**
+     * Parallel mode: every chunk of keys is split into one partition per worker by user id hash. Each partition is
+     * evaluated by its own worker in its own transaction and the next chunk starts only after all partitions are
+     * committed, so claims of the same user are still evaluated in order, one at a time. Chunks are leased like in
+     * sequential mode.
+     */
+    private void evaluateBacklogInParallel(ClaimStatus claimStatus, LocalDateTime createdBefore, UUID jobId) {
+        int chunkSize = claimEvaluationProperties.getChunkSize();
+        int workers = claimEvaluationWorkers.size();
+        int totalEvaluated = 0;
+
+        while (true) {
+            List<ClaimKey> keys = claimWorkQueue.leaseNext(claimStatus, createdBefore, chunkSize);
+
+            if (keys.isEmpty()) {
+                break;
             }
 
-            BigDecimal limit = switch (claim.getClaimType()) {
-                case MEDICATION_EXPENSES -> policy.getLimitForMedications();
-                case HOSPITAL_TREATMENT_EXPENSES -> policy.getLimitForHospitalTreatment();
-                case SURGERY_EXPENSES -> policy.getLimitForSurgery();
-                case DENTAL_SERVICE_EXPENSES -> policy.getLimitForDentalService();
-            };
-
-            boolean approved = claim.getRequestedAmount().compareTo(limit) <= 0;
-
-            if (approved) {
-                claim.setClaimStatus(ClaimStatus.APPROVED);
-                user.setAccountBalance(user.getAccountBalance().add(claim.getRequestedAmount()));
-                transactionService.create(user, claim.getRequestedAmount(), TransactionStatus.COMPLETED);
-                log.info("Claim {} approved. User {} new balance = {}", claim.getId(), user.getUsername(), user.getAccountBalance());
-            } else {
-                claim.setClaimStatus(ClaimStatus.REJECTED);
-                transactionService.create(user, BigDecimal.ZERO, TransactionStatus.FAILED);
+            Map<Integer, List<UUID>> partitions = keys.stream()
+                    .collect(Collectors.groupingBy(key -> Math.floorMod(key.getUserId().hashCode(), workers),
+                            Collectors.mapping(ClaimKey::getId, Collectors.toList())));
+
+            List<CompletableFuture<Integer>> evaluations = partitions.entrySet().stream()
+                    .map(partition -> claimEvaluationWorkers.submit(() -> evaluateLeased(partition.getValue(), claimStatus, jobId, partition.getKey())))
+                    .toList();
+
+            CompletableFuture.allOf(evaluations.toArray(CompletableFuture[]::new)).join();
+            int evaluated = evaluations.stream().mapToInt(CompletableFuture::join).sum();
+
+            totalEvaluated += evaluated;
+            log.info("Scheduler: Committed chunk of {} evaluated claims across {} partitions", evaluated, partitions.size());
+        }
+
+        log.info("Scheduler: Automatically evaluated {} {} claims with {} workers", totalEvaluated, claimStatus, workers);
+    }
+
+    /**
+     * Evaluates, in one transaction, the given claims this node holds the lease of and that are still in the given
+     * status. Anything taken over by another node after an expired lease is left alone. When another evaluator decides
+     * one of the claims first, the whole transaction rolls back on the claim version check and the claims that are
+     * still undecided are evaluated again, as often as {@link ConcurrencyRetry} allows. The checkpoint of the run, if
+     * any, is advanced for the given partition in the same transaction. Time to decision is recorded only for the
+     * decisions that committed.
+     */
+    private int evaluateLeased(List<UUID> claimIds, ClaimStatus claimStatus, UUID jobId, int partition) {
+        try {
+            List<Claim> decided = concurrencyRetry.execute("claims.evaluate", () -> {
+                List<Claim> claims = claimRepository.findAllByIdInAndClaimStatusAndLeaseOwnerOrderByCreatedOnAscIdAsc(claimIds, claimStatus, claimWorkQueue.getOwner());
+                evaluateAll(claims);
+
+                if (jobId != null) {
+                    checkpointService.advance(jobId, partition, claims.size());
+                }
+
+                return claims;
+            });
+            decided.forEach(claim -> claimEvaluationMetrics.recordDecision(claim, claim.getUpdatedOn()));
+            claimBacklog.decided(decided.size());
+
+            return decided.size();
+        } catch (ConcurrencyFailureException e) {
+            log.warn("Scheduler: Gave up on {} claims decided concurrently by another evaluator", claimIds.size());
+            return 0;
+        }
+    }
+
+    /**
+     * Evaluates claims handed over by the intake pipeline right after submission, in one transaction. Only claims that
+     * are still OPEN are taken, anything the status sweep has moved in the meantime is left to the scheduled evaluation.
+     * The claims are leased first, which also keeps the status sweep of any node from moving them while they are
+     * evaluated here.
+     */
+    public int evaluateSubmittedClaims(List<UUID> claimIds) {
+        List<UUID> leased = claimWorkQueue.lease(claimIds, ClaimStatus.OPEN);
+
+        if (leased.isEmpty()) {
+            return 0;
+        }
+
+        int evaluated = evaluateLeased(leased, ClaimStatus.OPEN, null, 0);
+
+        log.info("Intake: Evaluated {} submitted claims", evaluated);
+
+        return evaluated;
+    }
+
+    /**
+     * Decides the given claims and writes the results as grouped statements: all ledger inserts and claim updates,
+     * flushed as JDBC batches, followed by one atomic balance credit per user carrying the sum of that user's approved
+     * claims. The rollup rows and the credits are both written in user id order, so concurrent evaluators never wait
+     * on each other's rows in a cycle. The credits, ledger entries and rollup only commit together with the versioned
+     * status updates of the chunk.
+     */
+    private void evaluateAll(List<Claim> claims) {
+        List<Transaction> transactions = new ArrayList<>(claims.size());
+        Map<UUID, Money> credits = new TreeMap<>();
+        UserActivityChanges activity = new UserActivityChanges();
+        int approved = 0;
+
+        for (Claim claim : claims) {
+            transactions.add(evaluateClaim(claim));
+            activity.claimDecided(claim);
+
+            if (claim.getClaimStatus() == ClaimStatus.APPROVED) {
+                credits.merge(claim.getUser().getId(), claim.getRequestedAmount(), Money::plus);
+                approved++;
             }
+        }
 
+        transactionService.createAll(transactions);
+        claimRepository.saveAll(claims);
+        claimRepository.flush();
+
+        userActivityService.record(activity.transactionsCreated(transactions));
+        credits.forEach((userId, amount) -> userService.credit(userId, amount.toBigDecimal()));
+
+        log.info("Scheduler: Decided {} claims, {} approved, credited as {} user updates", claims.size(), approved, credits.size());
+    }
+
+    private Transaction evaluateClaim(Claim claim) {
+        User user = claim.getUser();
+        Policy policy = policyService.getInForce(user.getPolicy().getId(), claim.getCreatedOn());
+        boolean approved = claimRuleEngine.rulesFor(policy).approves(claim);
+        Transaction transaction;
+
+        if (approved) {
+            claim.setClaimStatus(ClaimStatus.APPROVED);
             claim.setUpdatedOn(LocalDateTime.now());
-            user.setUpdatedOn(LocalDateTime.now());
-            userService.persistUser(user);
-        });
+            transaction = transactionService.build(user, claim.getRequestedAmount(), TransactionStatus.COMPLETED);
+            log.info("Claim {} approved. User {} credited with {}", claim.getId(), user.getUsername(), claim.getRequestedAmount());
+        } else {
+            rejectClaim(claim, LocalDateTime.now());
+            transaction = transactionService.build(user, Money.ZERO, TransactionStatus.FAILED);
+        }
 
-        claimRepository.saveAll(claimsForEvaluation);
-        log.info("Scheduler: Automatically evaluated {} claims", claimsForEvaluation.size());
+        claim.setLeaseOwner(null);
+        claim.setLeaseExpiresOn(null);
+
+        return transaction;
     }
 
     public void rejectClaim(Claim claim, LocalDateTime now) {
@@ -187,7 +426,35 @@ public class ClaimService {
         claim.setUpdatedOn(now);
     }
 
+    /**
+     * Returns the claims in the given status. When review eligibility is derived, OPEN claims past the review cooling
+     * period are returned as FOR_REVIEW instead of OPEN.
+     */
     public List<Claim> getAllClaimsByStatus(ClaimStatus claimStatus) {
+        LocalDateTime reviewCutoff = getReviewCutoff();
+
+        if (reviewCutoff != null && claimStatus == ClaimStatus.OPEN) {
+            return claimRepository.findAllByClaimStatusAndCreatedOnAfter(ClaimStatus.OPEN, reviewCutoff);
+        }
+
+        if (reviewCutoff != null && claimStatus == ClaimStatus.FOR_REVIEW) {
+            List<Claim> claims = new ArrayList<>(claimRepository.findAllByClaimStatus(ClaimStatus.FOR_REVIEW));
+            claims.addAll(claimRepository.findAllByClaimStatusAndCreatedOnLessThanEqual(ClaimStatus.OPEN, reviewCutoff));
+            return claims;
+        }
+
         return claimRepository.findAllByClaimStatus(claimStatus);
     }
+
+    /**
+     * Creation time up to which OPEN claims are eligible for review, or {@code null} while review eligibility is not
+     * derived and only the stored status counts.
+     */
+    public LocalDateTime getReviewCutoff() {
+        if (!claimEvaluationProperties.isDeriveReviewStatus()) {
+            return null;
+        }
+
+        return LocalDateTime.now().minus(claimEvaluationProperties.getReviewCoolingPeriod());
+    }
 }
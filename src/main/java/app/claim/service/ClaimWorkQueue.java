@@ -0,0 +1,129 @@
+package app.claim.service;
+
+import app.claim.model.ClaimKey;
+import app.claim.model.ClaimStatus;
+import app.claim.repository.ClaimRepository;
+import app.configuration.ClaimEvaluationProperties;
+import app.utility.ConcurrencyRetry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Hands out claims to evaluate so that several application nodes can work on one backlog at the same time. A node
+ * takes a batch by writing its owner id and an expiry into the claims (a lease) in a short transaction of its own, and
+ * then evaluates only claims it holds the lease of. A lease that is not released by the evaluation, because the node
+ * died or the chunk rolled back, expires and the claims become available again. A lease transaction that deadlocks with
+ * another node's evaluation is retried.
+ */
+@Slf4j
+@Component
+public class ClaimWorkQueue {
+
+    /**
+     * Scans for candidates before giving up on a round in which other nodes keep winning every candidate.
+     */
+    private static final int MAX_LEASE_ATTEMPTS = 5;
+
+    private final ClaimRepository claimRepository;
+    private final ConcurrencyRetry concurrencyRetry;
+    private final ClaimEvaluationProperties claimEvaluationProperties;
+    private final String owner;
+
+    public ClaimWorkQueue(ClaimRepository claimRepository, ConcurrencyRetry concurrencyRetry, ClaimEvaluationProperties claimEvaluationProperties) {
+        this.claimRepository = claimRepository;
+        this.concurrencyRetry = concurrencyRetry;
+        this.claimEvaluationProperties = claimEvaluationProperties;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Leases up to {@code limit} of the oldest claims in the given status, created no later than {@code createdBefore}
+     * (or now when it is {@code null}), that nobody holds. In prioritized mode the claims due soonest are taken instead
+     * of the oldest. When other nodes win the race for every candidate, the next candidates are scanned. Every scan runs
+     * in a transaction of its own, so under REPEATABLE READ it sees the leases committed in the meantime instead of the
+     * same stale candidates again. After {@value #MAX_LEASE_ATTEMPTS} lost rounds an empty result is returned and the
+     * backlog is left to the nodes that hold it; otherwise an empty result means the backlog is drained.
+     */
+    public List<ClaimKey> leaseNext(ClaimStatus claimStatus, LocalDateTime createdBefore, int limit) {
+        for (int attempt = 1; attempt <= MAX_LEASE_ATTEMPTS; attempt++) {
+            List<ClaimKey> leased = concurrencyRetry.execute("claims.lease", () -> tryLeaseNext(claimStatus, createdBefore, limit));
+
+            if (leased != null) {
+                return leased;
+            }
+        }
+
+        log.info("Lease: Other nodes won every candidate {} times in a row, leaving the rest of the backlog to them", MAX_LEASE_ATTEMPTS);
+
+        return List.of();
+    }
+
+    /**
+     * Returns the leased claims, an empty list when there is nothing left to lease, or {@code null} when other nodes
+     * took every candidate.
+     */
+    private List<ClaimKey> tryLeaseNext(ClaimStatus claimStatus, LocalDateTime createdBefore, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ClaimKey> candidates = findLeasableKeys(claimStatus, createdBefore == null ? now : createdBefore, now, limit);
+
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<UUID> ids = candidates.stream().map(ClaimKey::getId).toList();
+        int acquired = claimRepository.lease(ids, claimStatus, owner, now.plus(claimEvaluationProperties.getLeaseDuration()), now);
+
+        if (acquired == candidates.size()) {
+            return candidates;
+        }
+
+        if (acquired == 0) {
+            return null;
+        }
+
+        Set<UUID> ownIds = Set.copyOf(claimRepository.findLeasedIds(ids, owner));
+        return candidates.stream().filter(key -> ownIds.contains(key.getId())).toList();
+    }
+
+    private List<ClaimKey> findLeasableKeys(ClaimStatus claimStatus, LocalDateTime createdBefore, LocalDateTime now, int limit) {
+        if (claimEvaluationProperties.isPrioritized()) {
+            return claimRepository.findLeasableKeysByDueOn(claimStatus, createdBefore, now, Limit.of(limit));
+        }
+
+        return claimRepository.findLeasableKeys(claimStatus, createdBefore, now, Limit.of(limit));
+    }
+
+    /**
+     * Leases the given claims that are still in the given status and not held by another node.
+     */
+    public List<UUID> lease(Collection<UUID> claimIds, ClaimStatus claimStatus) {
+        List<UUID> leased = concurrencyRetry.execute("claims.lease", () -> {
+            LocalDateTime now = LocalDateTime.now();
+            int acquired = claimRepository.lease(claimIds, claimStatus, owner, now.plus(claimEvaluationProperties.getLeaseDuration()), now);
+
+            if (acquired == claimIds.size()) {
+                return List.copyOf(claimIds);
+            }
+
+            return acquired == 0 ? List.<UUID>of() : claimRepository.findLeasedIds(claimIds, owner);
+        });
+
+        if (leased.size() < claimIds.size()) {
+            log.info("Lease: {} of {} claims are held by another node", claimIds.size() - leased.size(), claimIds.size());
+        }
+
+        return leased;
+    }
+}
@@ -0,0 +1,70 @@
+package app.configuration;
+
+import app.claim.model.ClaimType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "claims.evaluation")
+public class ClaimEvaluationProperties {
+
+    /**
+     * Number of FOR_REVIEW claims loaded, evaluated and committed together.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Number of parallel evaluation workers. Claims are partitioned by user, so claims of one user are still evaluated
+     * in order by a single worker. Keep it below the datasource pool size, every worker holds one connection.
+     */
+    private int workers = 1;
+
+    /**
+     * How long a node keeps the claims it took for evaluation before other nodes may take them over. Must be well
+     * above the time needed to evaluate one chunk.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(5);
+
+    /**
+     * Derive review eligibility from the creation time instead of moving OPEN claims to FOR_REVIEW with the scheduled
+     * status sweep. An OPEN claim older than the review cooling period then counts as FOR_REVIEW and is evaluated
+     * directly, and the sweep job is not scheduled.
+     */
+    private boolean deriveReviewStatus = false;
+
+    /**
+     * Age at which an OPEN claim becomes eligible for review when review eligibility is derived.
+     */
+    private Duration reviewCoolingPeriod = Duration.ofMinutes(5);
+
+    /**
+     * Lease claims by their evaluation due time instead of by creation time, so claims with a tighter target decision
+     * time overtake older claims that can wait longer.
+     */
+    private boolean prioritized = false;
+
+    /**
+     * Target time from submission to decision per claim type. A claim is due for evaluation this long after it was
+     * created.
+     */
+    private Map<ClaimType, Duration> targetDecisionTime = new EnumMap<>(Map.of(
+            ClaimType.SURGERY_EXPENSES, Duration.ofHours(4),
+            ClaimType.HOSPITAL_TREATMENT_EXPENSES, Duration.ofHours(8),
+            ClaimType.DENTAL_SERVICE_EXPENSES, Duration.ofHours(24),
+            ClaimType.MEDICATION_EXPENSES, Duration.ofHours(24)));
+
+    /**
+     * Requested amount from which a claim is due within {@code highValueTargetDecisionTime} if that is sooner than the
+     * target of its type. No claim counts as high value when unset.
+     */
+    private BigDecimal highValueAmount;
+
+    private Duration highValueTargetDecisionTime = Duration.ofHours(2);
+}
@@ -0,0 +1,54 @@
+package app.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "claims.intake")
+public class ClaimIntakeProperties {
+
+    /**
+     * Evaluate submitted claims right away instead of waiting for the scheduled jobs.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of intake evaluators. Claims are routed to an evaluator by user, so claims of one user stay in order.
+     */
+    private int workers = 2;
+
+    /**
+     * Capacity of every evaluator queue. Claims that do not fit are left to the scheduled safety sweep.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of claims an evaluator drains and evaluates in one transaction.
+     */
+    private int batchSize = 50;
+
+    /**
+     * How long a submitted claim is left to the intake pipeline before the status sweep moves it to FOR_REVIEW.
+     */
+    private Duration sweepGracePeriod = Duration.ofMinutes(1);
+
+    /**
+     * Undecided claims from which new submissions are still accepted but the submitter is told the decision will take
+     * longer than usual.
+     */
+    private long backlogSoftLimit = 20_000;
+
+    /**
+     * Undecided claims from which new submissions are turned away with a retry-later response.
+     */
+    private long backlogHardLimit = 100_000;
+
+    /**
+     * How often the in-memory backlog count is replaced by a count from the database.
+     */
+    private Duration backlogResyncInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,35 @@
+package app.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "concurrency.retry")
+public class ConcurrencyRetryProperties {
+
+    /**
+     * Attempts of one operation, including the first, before a version conflict is passed on to the caller.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Upper bound of the random pause before the first retry. It doubles with every further retry.
+     */
+    private Duration initialBackoff = Duration.ofMillis(20);
+
+    /**
+     * Upper bound of the random pause before any retry.
+     */
+    private Duration maxBackoff = Duration.ofMillis(500);
+
+    /**
+     * Unique indexes whose values are generated again by every attempt. A violation of one of them is retried like a
+     * conflict instead of being passed on to the caller.
+     */
+    private Set<String> regeneratedUniqueKeys = Set.of("ux_transaction_reference_number");
+}
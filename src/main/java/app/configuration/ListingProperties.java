@@ -0,0 +1,16 @@
+package app.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "listing")
+public class ListingProperties {
+
+    /**
+     * Number of rows rendered per page on the claims and transactions listings.
+     */
+    private int pageSize = 50;
+}
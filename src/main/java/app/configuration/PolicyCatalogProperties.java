@@ -0,0 +1,18 @@
+package app.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "policy.catalog")
+public class PolicyCatalogProperties {
+
+    /**
+     * How often the policy catalog is compared with the database, which picks up policies updated on other nodes.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+}
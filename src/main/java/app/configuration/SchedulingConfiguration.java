@@ -0,0 +1,71 @@
+package app.configuration;
+
+import app.scheduler.service.JobLeaseService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Runs the {@code @Scheduled} jobs on a dedicated pool instead of Spring's single scheduler thread. The pool is handed
+ * to the registrar rather than exposed as a bean, so it does not replace Spring Boot's application task executor.
+ * The leadership heartbeat gets a single thread of its own, so busy jobs can never hold it back until their leases
+ * expire.
+ */
+@Slf4j
+@Configuration
+public class SchedulingConfiguration implements SchedulingConfigurer, DisposableBean {
+
+    private final SchedulingProperties schedulingProperties;
+    private final JobLeaseService jobLeaseService;
+    private final ThreadPoolTaskScheduler taskScheduler;
+    private final ThreadPoolTaskScheduler heartbeatScheduler;
+
+    public SchedulingConfiguration(SchedulingProperties schedulingProperties, JobLeaseService jobLeaseService) {
+        this.schedulingProperties = schedulingProperties;
+        this.jobLeaseService = jobLeaseService;
+        this.taskScheduler = scheduler("scheduling-", poolSize());
+        this.heartbeatScheduler = scheduler("lease-heartbeat-", 1);
+    }
+
+    /**
+     * Grows the pool to one thread per recurring job registered by then, so a job added later does not silently
+     * queue behind the others when the configured pool size was not raised with it.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        int recurringJobs = taskRegistrar.getCronTaskList().size()
+                + taskRegistrar.getFixedDelayTaskList().size()
+                + taskRegistrar.getFixedRateTaskList().size()
+                + taskRegistrar.getTriggerTaskList().size();
+
+        if (recurringJobs > poolSize()) {
+            log.info("Scheduler: Growing the pool from {} to {} threads, one per recurring job", poolSize(), recurringJobs);
+            taskScheduler.setPoolSize(recurringJobs);
+        }
+
+        taskRegistrar.setTaskScheduler(taskScheduler);
+        heartbeatScheduler.scheduleWithFixedDelay(jobLeaseService::heartbeat, schedulingProperties.getHeartbeatInterval());
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatScheduler.shutdown();
+        taskScheduler.shutdown();
+    }
+
+    private int poolSize() {
+        return Math.max(1, schedulingProperties.getPoolSize());
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
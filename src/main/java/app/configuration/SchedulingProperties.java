@@ -0,0 +1,31 @@
+package app.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduling")
+public class SchedulingProperties {
+
+    /**
+     * Threads of the scheduler that runs the scheduled jobs: one per recurring job (claim evaluation, claim status
+     * change, policy catalog refresh, claim backlog resync, user activity rebuild and check), so a slow job does not
+     * delay the others. The pool grows on startup when more jobs are registered. The leadership heartbeat runs on a
+     * thread of its own and is not counted.
+     */
+    private int poolSize = 6;
+
+    /**
+     * How long a node stays leader of a job without a heartbeat. A dead leader is replaced within this window.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(1);
+
+    /**
+     * How often a leader extends its leases. Must be well below the lease duration.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+}
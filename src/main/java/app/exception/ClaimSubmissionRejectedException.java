@@ -0,0 +1,8 @@
+package app.exception;
+
+public class ClaimSubmissionRejectedException extends RuntimeException {
+
+    public ClaimSubmissionRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package app.exception;
+
+public class PolicyUpdateConflictException extends RuntimeException {
+
+    public PolicyUpdateConflictException(String message) {
+        super(message);
+    }
+}
@@ -12,12 +12,16 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "ix_policy_policy_type", columnList = "policyType"))
 public class Policy {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @Version
+    private long version;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private PolicyType policyType;
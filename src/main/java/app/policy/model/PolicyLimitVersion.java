@@ -0,0 +1,46 @@
+package app.policy.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Limits of a policy in force from {@code effectiveFrom} until the next version of the same policy. Versions are only
+ * ever appended, so a claim can always be judged by the limits that applied when it was submitted.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(uniqueConstraints = @UniqueConstraint(name = "ux_policy_limit_version_policy_effective_from", columnNames = {"policy_id", "effectiveFrom"}))
+public class PolicyLimitVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "policy_id", nullable = false)
+    private Policy policy;
+
+    @Column(nullable = false)
+    private LocalDateTime effectiveFrom;
+
+    @Column(nullable = false)
+    private BigDecimal limitForMedications;
+
+    @Column(nullable = false)
+    private BigDecimal limitForHospitalTreatment;
+
+    @Column(nullable = false)
+    private BigDecimal limitForSurgery;
+
+    @Column(nullable = false)
+    private BigDecimal limitForDentalService;
+}
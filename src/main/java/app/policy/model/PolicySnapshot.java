@@ -0,0 +1,109 @@
+package app.policy.model;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable set of policies as loaded at one point in time, indexed by type and id, together with the limit history of
+ * every policy indexed by the time each version took effect. The policies are detached copies that are shared by every
+ * reader and must not be modified. When two rows share a type, the oldest one is the one found by type.
+ */
+public final class PolicySnapshot {
+
+    public static final PolicySnapshot EMPTY = new PolicySnapshot(0, List.of(), Map.of());
+
+    private final long version;
+    private final List<Policy> policies;
+    private final Map<PolicyType, Policy> byType;
+    private final Map<UUID, Policy> byId;
+    private final Map<UUID, NavigableMap<LocalDateTime, Policy>> limitHistory;
+
+    /**
+     * @param limitHistory per policy id, the policy with the limits of each version keyed by the time it took effect
+     */
+    public PolicySnapshot(long version, List<Policy> policies, Map<UUID, NavigableMap<LocalDateTime, Policy>> limitHistory) {
+        this.version = version;
+        this.policies = policies.stream()
+                .sorted(Comparator.comparing(Policy::getPolicyType).thenComparing(Policy::getCreatedOn))
+                .toList();
+
+        Map<PolicyType, Policy> byType = new EnumMap<>(PolicyType.class);
+        Map<UUID, Policy> byId = new HashMap<>();
+
+        for (Policy policy : this.policies) {
+            byType.putIfAbsent(policy.getPolicyType(), policy);
+            byId.put(policy.getId(), policy);
+        }
+
+        this.byType = Map.copyOf(byType);
+        this.byId = Map.copyOf(byId);
+
+        Map<UUID, NavigableMap<LocalDateTime, Policy>> history = new HashMap<>();
+        limitHistory.forEach((policyId, versions) -> history.put(policyId, Collections.unmodifiableNavigableMap(versions)));
+        this.limitHistory = Map.copyOf(history);
+    }
+
+    /**
+     * Number of the snapshot, incremented with every reload that found a changed policy.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Policy> getPolicies() {
+        return policies;
+    }
+
+    public Policy getByType(PolicyType policyType) {
+        return byType.get(policyType);
+    }
+
+    public Optional<Policy> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * Returns the policy with the limits in force at the given time, by a floor lookup in the limit history of the
+     * policy. A policy that was never updated has no history and its current limits apply; before the first version the
+     * oldest known limits apply.
+     */
+    public Optional<Policy> findInForce(UUID id, LocalDateTime at) {
+        Policy current = byId.get(id);
+
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        NavigableMap<LocalDateTime, Policy> versions = limitHistory.get(id);
+
+        if (versions == null || versions.isEmpty()) {
+            return Optional.of(current);
+        }
+
+        Map.Entry<LocalDateTime, Policy> inForce = versions.floorEntry(at);
+
+        return Optional.of(inForce != null ? inForce.getValue() : versions.firstEntry().getValue());
+    }
+
+    /**
+     * Whether the given rows are the ones this snapshot was built from, compared by id and entity version.
+     */
+    public boolean isSnapshotOf(List<Policy> current) {
+        if (current.size() != byId.size()) {
+            return false;
+        }
+
+        return current.stream().allMatch(policy -> {
+            Policy known = byId.get(policy.getId());
+            return known != null && known.getVersion() == policy.getVersion();
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package app.policy.repository;
+
+import app.policy.model.Policy;
+import app.policy.model.PolicyLimitVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface PolicyLimitVersionRepository extends JpaRepository<PolicyLimitVersion, UUID> {
+
+    boolean existsByPolicy(Policy policy);
+}
@@ -0,0 +1,129 @@
+package app.policy.service;
+
+import app.policy.model.Policy;
+import app.policy.model.PolicyLimitVersion;
+import app.policy.model.PolicySnapshot;
+import app.policy.repository.PolicyLimitVersionRepository;
+import app.policy.repository.PolicyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current {@link PolicySnapshot}, so reading a policy, or the limits it had at any point in time, costs no
+ * database round-trip. The snapshot is loaded at
+ * startup, replaced as a whole after a policy update on this node has committed, and compared with the database at a
+ * fixed interval to pick up updates made on other nodes.
+ */
+@Slf4j
+@Component
+public class PolicyCatalog {
+
+    private final PolicyRepository policyRepository;
+    private final PolicyLimitVersionRepository policyLimitVersionRepository;
+    private final AtomicReference<PolicySnapshot> snapshot = new AtomicReference<>(PolicySnapshot.EMPTY);
+
+    public PolicyCatalog(PolicyRepository policyRepository, PolicyLimitVersionRepository policyLimitVersionRepository) {
+        this.policyRepository = policyRepository;
+        this.policyLimitVersionRepository = policyLimitVersionRepository;
+    }
+
+    public PolicySnapshot snapshot() {
+        PolicySnapshot current = snapshot.get();
+
+        return current == PolicySnapshot.EMPTY ? reload() : current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${policy.catalog.refresh-interval}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * Loads the policies and, if any of them changed since the current snapshot was built, their limit history, and
+     * swaps in a new snapshot. Reloads are serialized, readers never wait for one.
+     */
+    public synchronized PolicySnapshot reload() {
+        PolicySnapshot current = snapshot.get();
+        List<Policy> policies = policyRepository.findAll();
+
+        if (current != PolicySnapshot.EMPTY && current.isSnapshotOf(policies)) {
+            return current;
+        }
+
+        Map<UUID, Policy> copies = policies.stream().map(PolicyCatalog::copy).collect(Collectors.toMap(Policy::getId, Function.identity()));
+        Map<UUID, NavigableMap<LocalDateTime, Policy>> limitHistory = new HashMap<>();
+
+        for (PolicyLimitVersion limitVersion : policyLimitVersionRepository.findAll()) {
+            Policy policy = copies.get(limitVersion.getPolicy().getId());
+
+            if (policy != null) {
+                limitHistory.computeIfAbsent(policy.getId(), id -> new TreeMap<>()).put(limitVersion.getEffectiveFrom(), withLimits(policy, limitVersion));
+            }
+        }
+
+        PolicySnapshot next = new PolicySnapshot(current.getVersion() + 1, List.copyOf(copies.values()), limitHistory);
+        snapshot.set(next);
+        log.info("Loaded policy catalog version {} with {} policies", next.getVersion(), policies.size());
+
+        return next;
+    }
+
+    /**
+     * Reloads once the surrounding transaction has committed, or right away when there is none.
+     */
+    public void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    private static Policy withLimits(Policy policy, PolicyLimitVersion limitVersion) {
+        Policy inForce = copy(policy);
+        inForce.setLimitForMedications(limitVersion.getLimitForMedications());
+        inForce.setLimitForHospitalTreatment(limitVersion.getLimitForHospitalTreatment());
+        inForce.setLimitForSurgery(limitVersion.getLimitForSurgery());
+        inForce.setLimitForDentalService(limitVersion.getLimitForDentalService());
+        inForce.setUpdatedOn(limitVersion.getEffectiveFrom());
+
+        return inForce;
+    }
+
+    private static Policy copy(Policy policy) {
+        return Policy.builder()
+                .id(policy.getId())
+                .version(policy.getVersion())
+                .policyType(policy.getPolicyType())
+                .limitForMedications(policy.getLimitForMedications())
+                .limitForHospitalTreatment(policy.getLimitForHospitalTreatment())
+                .limitForSurgery(policy.getLimitForSurgery())
+                .limitForDentalService(policy.getLimitForDentalService())
+                .policyPrice(policy.getPolicyPrice())
+                .createdOn(policy.getCreatedOn())
+                .updatedOn(policy.getUpdatedOn())
+                .build();
+    }
+}
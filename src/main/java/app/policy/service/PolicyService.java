@@ -1,10 +1,14 @@
 package app.policy.service;
 
 import app.exception.PolicyNotFoundException;
+import app.exception.PolicyUpdateConflictException;
 import app.policy.model.Policy;
 import app.policy.model.PolicyType;
+import app.policy.model.PolicyLimitVersion;
+import app.policy.repository.PolicyLimitVersionRepository;
 import app.policy.repository.PolicyRepository;
 import app.user.model.User;
+import app.utility.ConcurrencyRetry;
 import app.web.dto.PolicyLimitsChangeRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,33 +22,86 @@ import java.util.UUID;
 public class PolicyService {
 
     private final PolicyRepository policyRepository;
+    private final ConcurrencyRetry concurrencyRetry;
+    private final PolicyLimitVersionRepository policyLimitVersionRepository;
+    private final PolicyCatalog policyCatalog;
 
-    public PolicyService(PolicyRepository policyRepository) {
+    public PolicyService(PolicyRepository policyRepository, PolicyLimitVersionRepository policyLimitVersionRepository, ConcurrencyRetry concurrencyRetry, PolicyCatalog policyCatalog) {
         this.policyRepository = policyRepository;
+        this.policyLimitVersionRepository = policyLimitVersionRepository;
+        this.concurrencyRetry = concurrencyRetry;
+        this.policyCatalog = policyCatalog;
     }
 
     public Policy getByType (PolicyType policyType) {
-        return policyRepository.findByPolicyType(policyType);
+        return policyCatalog.snapshot().getByType(policyType);
     }
 
     public List<Policy> getPolicies() {
-        return policyRepository.findAll();
+        return policyCatalog.snapshot().getPolicies();
     }
 
+    /**
+     * Returns the policy from the catalog. A policy the catalog does not know yet, because it was created after the
+     * catalog was loaded, triggers one reload.
+     */
     public Policy getById(UUID id) {
-        return policyRepository.findById(id).orElseThrow(() -> new PolicyNotFoundException("Policy with [%s] id is not present.".formatted(id)));
+        return policyCatalog.snapshot().findById(id)
+                .or(() -> policyCatalog.reload().findById(id))
+                .orElseThrow(() -> new PolicyNotFoundException("Policy with [%s] id is not present.".formatted(id)));
     }
 
+    /**
+     * Returns the policy with the limits that were in force at the given time, from the catalog.
+     */
+    public Policy getInForce(UUID id, LocalDateTime at) {
+        return policyCatalog.snapshot().findInForce(id, at)
+                .or(() -> policyCatalog.reload().findInForce(id, at))
+                .orElseThrow(() -> new PolicyNotFoundException("Policy with [%s] id is not present.".formatted(id)));
+    }
+
+    /**
+     * Applies the new limits to the policy, provided it is still at the version the admin edited. If another update
+     * committed in between, the change is rejected with a {@link PolicyUpdateConflictException} instead of being
+     * applied over limits the admin has not seen. The new limits are also appended as a limit version effective from
+     * now; the first update of a policy records its original limits as the version effective from its creation. The
+     * catalog is reloaded once the update has committed.
+     */
     public void updatePolicyLimits(Policy policy, PolicyLimitsChangeRequest policyLimitsChangeRequest, User admin) {
-        policy.setLimitForMedications(policyLimitsChangeRequest.getLimitForMedications());
-        policy.setLimitForHospitalTreatment(policyLimitsChangeRequest.getLimitForHospitalTreatment());
-        policy.setLimitForSurgery(policyLimitsChangeRequest.getLimitForSurgery());
-        policy.setLimitForDentalService(policyLimitsChangeRequest.getLimitForDentalService());
-        policy.setPolicyPrice(policyLimitsChangeRequest.getPolicyPrice());
-        policy.setUpdatedOn(LocalDateTime.now());
+        concurrencyRetry.run("policy.updateLimits", () -> {
+            Policy current = policyRepository.findById(policy.getId()).orElseThrow(() -> new PolicyNotFoundException("Policy with [%s] id is not present.".formatted(policy.getId())));
+            if (!Long.valueOf(current.getVersion()).equals(policyLimitsChangeRequest.getVersion())) {
+                throw new PolicyUpdateConflictException("Policy [%s] was changed by another administrator. Review the current limits and save again.".formatted(current.getPolicyType().getDisplayName()));
+            }
+            LocalDateTime now = LocalDateTime.now();
+
+            if (!policyLimitVersionRepository.existsByPolicy(current)) {
+                policyLimitVersionRepository.save(limitVersion(current, current.getCreatedOn()));
+            }
 
-        policyRepository.save(policy);
+            current.setLimitForMedications(policyLimitsChangeRequest.getLimitForMedications());
+            current.setLimitForHospitalTreatment(policyLimitsChangeRequest.getLimitForHospitalTreatment());
+            current.setLimitForSurgery(policyLimitsChangeRequest.getLimitForSurgery());
+            current.setLimitForDentalService(policyLimitsChangeRequest.getLimitForDentalService());
+            current.setPolicyPrice(policyLimitsChangeRequest.getPolicyPrice());
+            current.setUpdatedOn(now);
+
+            policyRepository.save(current);
+            policyLimitVersionRepository.save(limitVersion(current, now));
+            policyCatalog.reloadAfterCommit();
+
+            log.info("Policy [{}] updated by user [{}].", current.getPolicyType().getDisplayName(), admin.getUsername());
+        });
+    }
 
-        log.info("Policy [{}] updated by user [{}].", policy.getPolicyType().getDisplayName(), admin.getUsername());
+    private static PolicyLimitVersion limitVersion(Policy policy, LocalDateTime effectiveFrom) {
+        return PolicyLimitVersion.builder()
+                .policy(policy)
+                .effectiveFrom(effectiveFrom)
+                .limitForMedications(policy.getLimitForMedications())
+                .limitForHospitalTreatment(policy.getLimitForHospitalTreatment())
+                .limitForSurgery(policy.getLimitForSurgery())
+                .limitForDentalService(policy.getLimitForDentalService())
+                .build();
     }
 }
@@ -1,12 +1,10 @@
 package app.report.service;
 
-import app.claim.model.ClaimStatus;
-import app.claim.service.ClaimService;
+import app.activity.model.UserActivityTotals;
+import app.activity.service.UserActivityService;
 import app.report.client.ReportClient;
 import app.report.client.dto.CreateSummaryRequest;
 import app.report.client.dto.Summary;
-import app.transaction.model.Transaction;
-import app.transaction.service.TransactionService;
 import app.user.model.User;
 import app.web.dto.CreateSummaryByDates;
 import feign.FeignException;
@@ -15,7 +13,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -26,14 +23,12 @@ import java.util.UUID;
 public class ReportService {
 
     private final ReportClient client;
-    private final ClaimService claimService;
-    private final TransactionService transactionService;
+    private final UserActivityService userActivityService;
 
     @Autowired
-    public ReportService(ReportClient client, ClaimService claimService, TransactionService transactionService) {
+    public ReportService(ReportClient client, UserActivityService userActivityService) {
         this.client = client;
-        this.claimService = claimService;
-        this.transactionService = transactionService;
+        this.userActivityService = userActivityService;
     }
 
     public List<Summary> getLastUserReports(UUID userId) {
@@ -79,30 +74,24 @@ public class ReportService {
         return summary;
     }
 
+    /**
+     * Builds the summary from the daily activity rollup, reading at most one row per day of the period.
+     */
     public void createReport(CreateSummaryByDates createSummaryByDates, User user) {
 
         LocalDate startDate = createSummaryByDates.getStartDate();
         LocalDate endDate = createSummaryByDates.getEndDate();
 
-        int totalClaims = claimService.getClaimsCreatedByUserForPeriod(user, startDate, endDate).size();
-        int totalApprovedClaims = claimService.getClaimsCreatedByUserForPeriod(user, startDate, endDate).stream().filter(c -> c.getClaimStatus() == ClaimStatus.APPROVED)
-                .toList().size();
-
-        List<Transaction> transactions = transactionService.getTransactionsCreatedByUserForPeriod(user, startDate, endDate);
-
-        BigDecimal totalReimbursedAmount = transactions.stream()
-                .map(Transaction::getPaidAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        int totalTransactions = transactions.size();
+        UserActivityTotals totals = userActivityService.getTotals(user.getId(), startDate, endDate);
 
         CreateSummaryRequest createSummaryRequest = CreateSummaryRequest.builder()
                 .userId(user.getId())
                 .startDate(startDate)
                 .endDate(endDate)
-                .totalClaims(totalClaims)
-                .totalApprovedClaims(totalApprovedClaims)
-                .totalReimbursedAmount(totalReimbursedAmount)
-                .totalTransactions(totalTransactions)
+                .totalClaims(Math.toIntExact(totals.getClaims()))
+                .totalApprovedClaims(Math.toIntExact(totals.getApprovedClaims()))
+                .totalReimbursedAmount(totals.getPaidAmount().toBigDecimal())
+                .totalTransactions(Math.toIntExact(totals.getTransactions()))
                 .build();
 
         try {
@@ -1,20 +1,43 @@
 package app.scheduler;
 
+import app.claim.service.ClaimEvaluationCheckpointService;
 import app.claim.service.ClaimService;
+import app.scheduler.service.JobLeaseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class ClaimEvaluationScheduler {
 
     private final ClaimService claimService;
+    private final ClaimEvaluationCheckpointService checkpointService;
+    private final ScheduledJob job;
 
-    public ClaimEvaluationScheduler(ClaimService claimService) {
+    public ClaimEvaluationScheduler(ClaimService claimService, ClaimEvaluationCheckpointService checkpointService, JobLeaseService jobLeaseService, MeterRegistry meterRegistry) {
         this.claimService = claimService;
+        this.checkpointService = checkpointService;
+        this.job = new ScheduledJob("claim-evaluation", jobLeaseService, meterRegistry);
     }
 
-    @Scheduled(cron = "0 */10 * * * *")
+    @Scheduled(cron = "${scheduling.claim-evaluation.cron}")
     public void autoEvaluateClaims() {
-        claimService.evaluateClaims();
+        job.run(claimService::evaluateClaims);
+    }
+
+    /**
+     * Runs once shortly after startup and continues a run that was interrupted, by a crash or a deploy, instead of
+     * waiting for the next scheduled one.
+     */
+    @Scheduled(initialDelayString = "${scheduling.claim-evaluation.resume-delay}")
+    public void resumeInterruptedEvaluation() {
+        if (!checkpointService.hasInterruptedRun()) {
+            return;
+        }
+
+        log.info("Scheduler: Found an interrupted claim evaluation, resuming it");
+        job.run(claimService::evaluateClaims);
     }
 }
@@ -1,20 +1,39 @@
 package app.scheduler;
 
 import app.claim.service.ClaimService;
+import app.scheduler.service.JobLeaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Status sweep moving OPEN claims to FOR_REVIEW. Not scheduled when review eligibility is derived from the creation time.
+ */
 @Component
+@ConditionalOnProperty(name = "claims.evaluation.derive-review-status", havingValue = "false", matchIfMissing = true)
 public class ClaimStatusChangeScheduler {
 
     private final ClaimService claimService;
+    private final Counter movedClaimsCounter;
+    private final ScheduledJob job;
 
-    public ClaimStatusChangeScheduler(ClaimService claimService) {
+    public ClaimStatusChangeScheduler(ClaimService claimService, JobLeaseService jobLeaseService, MeterRegistry meterRegistry) {
         this.claimService = claimService;
+        this.movedClaimsCounter = Counter.builder("claims.moved.to.review")
+                .description("Claims moved from OPEN to FOR_REVIEW by the status change scheduler")
+                .register(meterRegistry);
+        this.job = new ScheduledJob("claim-status-change", jobLeaseService, meterRegistry);
     }
 
-    @Scheduled(fixedDelayString = "PT5M")
-    public void moveOpenClaimsToReview() {
-        claimService.moveOpenClaimsToReview();
+    @Scheduled(fixedDelayString = "${scheduling.claim-status-change.fixed-delay}")
+    public int moveOpenClaimsToReview() {
+        return job.run(() -> {
+            int movedClaims = claimService.moveOpenClaimsToReview();
+            movedClaimsCounter.increment(movedClaims);
+
+            return movedClaims;
+        }, 0);
     }
 }
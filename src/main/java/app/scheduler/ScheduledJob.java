@@ -0,0 +1,92 @@
+package app.scheduler;
+
+import app.scheduler.service.JobLeaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Guards a scheduled job against overlapping with itself and against running on more than one node, and reports when
+ * it last started, how long that run took, how many runs were skipped because the previous one was still in progress
+ * and whether this node is the leader of the job.
+ */
+@Slf4j
+public class ScheduledJob {
+
+    private final String name;
+    private final JobLeaseService jobLeaseService;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean leader = new AtomicBoolean();
+    private final AtomicLong lastStart = new AtomicLong();
+    private final AtomicLong lastDuration = new AtomicLong();
+    private final Counter skippedRuns;
+
+    public ScheduledJob(String name, JobLeaseService jobLeaseService, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.jobLeaseService = jobLeaseService;
+
+        Gauge.builder("scheduler.job.last.start", lastStart, start -> start.get() / 1000.0)
+                .description("Epoch time at which the last run of the job started")
+                .baseUnit("seconds")
+                .tag("job", name)
+                .register(meterRegistry);
+        Gauge.builder("scheduler.job.last.duration", lastDuration, duration -> duration.get() / 1000.0)
+                .description("Duration of the last completed run of the job")
+                .baseUnit("seconds")
+                .tag("job", name)
+                .register(meterRegistry);
+        Gauge.builder("scheduler.job.leader", leader, isLeader -> isLeader.get() ? 1 : 0)
+                .description("Whether this node ran the job the last time it was due")
+                .tag("job", name)
+                .register(meterRegistry);
+        this.skippedRuns = Counter.builder("scheduler.job.skipped")
+                .description("Runs of the job skipped because the previous run was still in progress")
+                .tag("job", name)
+                .register(meterRegistry);
+    }
+
+    public void run(Runnable job) {
+        run(() -> {
+            job.run();
+            return null;
+        }, null);
+    }
+
+    /**
+     * Runs the job unless a previous run is still in progress or another node leads the job, in which case
+     * {@code whenSkipped} is returned.
+     */
+    public <T> T run(Supplier<T> job, T whenSkipped) {
+        if (!running.compareAndSet(false, true)) {
+            skippedRuns.increment();
+            log.warn("Scheduler: Skipped {}, the previous run is still in progress", name);
+            return whenSkipped;
+        }
+
+        try {
+            leader.set(jobLeaseService.tryAcquire(name));
+
+            if (!leader.get()) {
+                log.debug("Scheduler: Skipped {}, another node is the leader", name);
+                return whenSkipped;
+            }
+
+            long start = System.nanoTime();
+            lastStart.set(System.currentTimeMillis());
+
+            try {
+                return job.get();
+            } finally {
+                lastDuration.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package app.scheduler;
+
+import app.activity.service.UserActivityService;
+import app.scheduler.service.JobLeaseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class UserActivityScheduler {
+
+    private final UserActivityService userActivityService;
+    private final ScheduledJob rebuildJob;
+    private final ScheduledJob checkJob;
+
+    public UserActivityScheduler(UserActivityService userActivityService, JobLeaseService jobLeaseService, MeterRegistry meterRegistry) {
+        this.userActivityService = userActivityService;
+        this.rebuildJob = new ScheduledJob("user-activity-rebuild", jobLeaseService, meterRegistry);
+        this.checkJob = new ScheduledJob("user-activity-check", jobLeaseService, meterRegistry);
+    }
+
+    @Scheduled(cron = "${scheduling.user-activity.rebuild-cron}")
+    public void rebuild() {
+        rebuildJob.run(userActivityService::rebuild, 0);
+    }
+
+    @Scheduled(cron = "${scheduling.user-activity.check-cron}")
+    public void check() {
+        checkJob.run(userActivityService::check, null);
+    }
+
+    /**
+     * Builds the rollup at startup when it has never been built, so reports are right from the first deploy on.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfEmpty() {
+        if (!userActivityService.isEmpty()) {
+            return;
+        }
+
+        log.info("Scheduler: The daily activity rollup is empty, building it");
+        rebuildJob.run(userActivityService::rebuild, 0);
+    }
+}
@@ -0,0 +1,32 @@
+package app.scheduler.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Leadership of one scheduled job across all application nodes. The node named in {@code leaseOwner} runs the job until
+ * {@code leaseExpiresOn}; it keeps extending the lease with heartbeats, and once they stop any other node may take over.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class JobLease {
+
+    @Id
+    @Column(length = 64)
+    private String jobName;
+
+    @Column(nullable = false, length = 64)
+    private String leaseOwner;
+
+    @Column(nullable = false)
+    private LocalDateTime leaseExpiresOn;
+
+    @Column(nullable = false)
+    private LocalDateTime heartbeatOn;
+}
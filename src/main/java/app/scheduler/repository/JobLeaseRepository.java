@@ -0,0 +1,38 @@
+package app.scheduler.repository;
+
+import app.scheduler.model.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * Extends the lease if the owner already holds it, or takes it over if it has expired. Returns 0 while another node
+     * holds a valid lease, and also when the job has no lease row yet.
+     */
+    @Modifying
+    @Query("UPDATE JobLease l SET l.leaseOwner = :leaseOwner, l.leaseExpiresOn = :leaseExpiresOn, l.heartbeatOn = :now " +
+            "WHERE l.jobName = :jobName AND (l.leaseOwner = :leaseOwner OR l.leaseExpiresOn < :now)")
+    int acquire(@Param("jobName") String jobName, @Param("leaseOwner") String leaseOwner, @Param("leaseExpiresOn") LocalDateTime leaseExpiresOn, @Param("now") LocalDateTime now);
+
+    /**
+     * Creates the lease row of a job that never ran. Fails with a duplicate key when another node created it first.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_lease (job_name, lease_owner, lease_expires_on, heartbeat_on) VALUES (:jobName, :leaseOwner, :leaseExpiresOn, :now)", nativeQuery = true)
+    int insert(@Param("jobName") String jobName, @Param("leaseOwner") String leaseOwner, @Param("leaseExpiresOn") LocalDateTime leaseExpiresOn, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE JobLease l SET l.leaseExpiresOn = :leaseExpiresOn, l.heartbeatOn = :now WHERE l.leaseOwner = :leaseOwner AND l.leaseExpiresOn >= :now")
+    int renew(@Param("leaseOwner") String leaseOwner, @Param("leaseExpiresOn") LocalDateTime leaseExpiresOn, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE JobLease l SET l.leaseExpiresOn = :now WHERE l.leaseOwner = :leaseOwner AND l.leaseExpiresOn > :now")
+    int release(@Param("leaseOwner") String leaseOwner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,88 @@
+package app.scheduler.service;
+
+import app.configuration.SchedulingProperties;
+import app.scheduler.repository.JobLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Elects one node per scheduled job through the job_lease table of the shared database. A node becomes leader of a job
+ * by taking its lease when the job is due, keeps the leases it holds alive with heartbeats and gives them up on
+ * shutdown. When a leader dies, its leases expire after {@link SchedulingProperties#getLeaseDuration()} and the next
+ * node the job is due on takes over.
+ */
+@Slf4j
+@Service
+public class JobLeaseService implements DisposableBean {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulingProperties schedulingProperties;
+    private final String owner;
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository, TransactionTemplate transactionTemplate, SchedulingProperties schedulingProperties) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.schedulingProperties = schedulingProperties;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Returns whether this node holds the lease of the job, taking or extending it on the way.
+     */
+    public boolean tryAcquire(String jobName) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseExpiresOn = now.plus(schedulingProperties.getLeaseDuration());
+
+        Boolean acquired = transactionTemplate.execute(status -> jobLeaseRepository.acquire(jobName, owner, leaseExpiresOn, now) == 1);
+
+        if (Boolean.TRUE.equals(acquired)) {
+            return true;
+        }
+
+        if (jobLeaseRepository.existsById(jobName)) {
+            return false;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobLeaseRepository.insert(jobName, owner, leaseExpiresOn, now));
+            log.info("Scheduler: Node {} is now leader of {}", owner, jobName);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Extends every lease this node holds, so a job that runs longer than the lease duration keeps its leader. Runs
+     * every {@link SchedulingProperties#getHeartbeatInterval()} on its own thread, see
+     * {@link app.configuration.SchedulingConfiguration}.
+     */
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> jobLeaseRepository.renew(owner, now.plus(schedulingProperties.getLeaseDuration()), now));
+    }
+
+    /**
+     * Lets the other nodes take over the jobs of this node right away instead of after the lease expired.
+     */
+    @Override
+    public void destroy() {
+        Integer released = transactionTemplate.execute(status -> jobLeaseRepository.release(owner, LocalDateTime.now()));
+
+        if (released != null && released > 0) {
+            log.info("Scheduler: Node {} released {} job leases", owner, released);
+        }
+    }
+}
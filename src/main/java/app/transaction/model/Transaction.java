@@ -1,11 +1,11 @@
 package app.transaction.model;
 
 import app.user.model.User;
+import app.utility.Money;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -15,6 +15,12 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "ux_transaction_reference_number", columnList = "referenceNumber", unique = true),
+        @Index(name = "ix_transaction_owner_deleted_updated_on", columnList = "transaction_owner_id, deleted, updatedOn"),
+        @Index(name = "ix_transaction_owner_deleted_created_on", columnList = "transaction_owner_id, deleted, createdOn"),
+        @Index(name = "ix_transaction_updated_on", columnList = "updatedOn")
+})
 public class Transaction {
 
     @Id
@@ -25,12 +31,12 @@ public class Transaction {
     @Enumerated(EnumType.STRING)
     private TransactionStatus transactionStatus;
 
-    @Column(nullable = false, unique = true, length = 8)
-    @Size(min = 8, max = 8)
+    @Column(nullable = false, length = 16)
+    @Size(min = 8, max = 16)
     private String referenceNumber;
 
     @Column(nullable = false)
-    private BigDecimal paidAmount;
+    private Money paidAmount;
 
     @Column(nullable = false)
     private LocalDateTime createdOn;
@@ -41,6 +47,7 @@ public class Transaction {
     @Column(nullable = false)
     private boolean deleted;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "transaction_owner_id")
     private User transactionOwner;
 }
@@ -2,7 +2,10 @@ package app.transaction.repository;
 
 import app.transaction.model.Transaction;
 import app.user.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -14,7 +17,25 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
 
     List<Transaction> findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(User user);
 
-    List<Transaction> findAllByTransactionOwnerAndDeletedFalseAndCreatedOnBetween(User user, LocalDateTime startDate, LocalDateTime endDate);
+    List<Transaction> findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(User user, Limit limit);
 
-    List<Transaction> findAllByOrderByUpdatedOnDesc();
+    @Query("""
+            SELECT t FROM Transaction t
+            WHERE t.transactionOwner = :user AND t.deleted = false
+              AND (t.updatedOn < :updatedOn OR (t.updatedOn = :updatedOn AND t.id < :id))
+            ORDER BY t.updatedOn DESC, t.id DESC
+            """)
+    List<Transaction> findAllByTransactionOwnerBefore(@Param("user") User user,
+                                                      @Param("updatedOn") LocalDateTime updatedOn,
+                                                      @Param("id") UUID id,
+                                                      Limit limit);
+
+    List<Transaction> findAllByOrderByUpdatedOnDescIdDesc(Limit limit);
+
+    @Query("""
+            SELECT t FROM Transaction t
+            WHERE t.updatedOn < :updatedOn OR (t.updatedOn = :updatedOn AND t.id < :id)
+            ORDER BY t.updatedOn DESC, t.id DESC
+            """)
+    List<Transaction> findAllBefore(@Param("updatedOn") LocalDateTime updatedOn, @Param("id") UUID id, Limit limit);
 }
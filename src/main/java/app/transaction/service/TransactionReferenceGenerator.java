@@ -0,0 +1,22 @@
+package app.transaction.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates the reference numbers of new transactions: 16 random hex digits, so collisions stay unlikely even with
+ * billions of transactions. A collision that does happen fails the unique index on the reference, and
+ * {@link app.utility.ConcurrencyRetry} runs the writing operation again with new references.
+ */
+@Component
+public class TransactionReferenceGenerator {
+
+    public static final int LENGTH = 16;
+
+    public String next() {
+
+        return HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -1,5 +1,8 @@
 package app.transaction.service;
 
+import app.activity.model.UserActivityChanges;
+import app.activity.service.UserActivityService;
+import app.configuration.ListingProperties;
 import app.exception.DomainException;
 import app.exception.TransactionNotFoundException;
 import app.transaction.model.Transaction;
@@ -7,13 +10,15 @@ import app.transaction.model.TransactionStatus;
 import app.transaction.repository.TransactionRepository;
 import app.user.model.User;
 import app.user.model.UserRole;
+import app.utility.KeysetPage;
+import app.utility.Money;
+import app.utility.PageCursor;
+import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,37 +27,68 @@ import java.util.UUID;
 public class TransactionService {
 
     private final TransactionRepository transactionRepository;
+    private final ListingProperties listingProperties;
+    private final UserActivityService userActivityService;
+    private final TransactionReferenceGenerator transactionReferenceGenerator;
 
-    public TransactionService(TransactionRepository transactionRepository) {
+    public TransactionService(TransactionRepository transactionRepository, ListingProperties listingProperties, UserActivityService userActivityService, TransactionReferenceGenerator transactionReferenceGenerator) {
         this.transactionRepository = transactionRepository;
+        this.listingProperties = listingProperties;
+        this.userActivityService = userActivityService;
+        this.transactionReferenceGenerator = transactionReferenceGenerator;
     }
 
-    public Transaction create(User user, BigDecimal amount, TransactionStatus status) {
+    @Transactional
+    public Transaction create(User user, Money amount, TransactionStatus status) {
 
-        Transaction transaction = Transaction.builder()
+        Transaction transaction = transactionRepository.save(build(user, amount, status));
+        userActivityService.record(new UserActivityChanges().transactionsCreated(List.of(transaction)));
+
+        return transaction;
+    }
+
+    /**
+     * Saves transactions prepared with {@link #build}. With JDBC batching enabled they are inserted in grouped statements.
+     * Unlike {@link #create}, the daily activity rollup is left to the caller, which records these transactions together
+     * with the rest of its changes.
+     */
+    public List<Transaction> createAll(List<Transaction> transactions) {
+
+        return transactionRepository.saveAll(transactions);
+    }
+
+    public Transaction build(User user, Money amount, TransactionStatus status) {
+
+        return Transaction.builder()
                 .transactionStatus(status)
-                .referenceNumber(java.util.UUID.randomUUID().toString().replace("-", "").substring(0, 8))
+                .referenceNumber(transactionReferenceGenerator.next())
                 .paidAmount(amount)
                 .createdOn(LocalDateTime.now())
                 .updatedOn(LocalDateTime.now())
                 .deleted(false)
                 .transactionOwner(user)
                 .build();
-
-        return transactionRepository.save(transaction);
     }
 
-    public List<Transaction> getTransactionsCreatedByUserForPeriod(User user, LocalDate startDate, LocalDate endDate) {
+    /**
+     * Returns the page of transactions that follows {@code after} (the first page when it is null), newest first.
+     */
+    public KeysetPage<Transaction> getAllTransactions(User user, PageCursor after) {
+        int pageSize = listingProperties.getPageSize();
+        Limit limit = Limit.of(pageSize + 1);
 
-        return transactionRepository.findAllByTransactionOwnerAndDeletedFalseAndCreatedOnBetween(user, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
-    }
-
-    public List<Transaction> getAllTransactions(User user) {
+        List<Transaction> transactions;
         if (user.getRole() == UserRole.ADMIN) {
-            return transactionRepository.findAllByOrderByUpdatedOnDesc();
+            transactions = after == null
+                    ? transactionRepository.findAllByOrderByUpdatedOnDescIdDesc(limit)
+                    : transactionRepository.findAllBefore(after.getUpdatedOn(), after.getId(), limit);
         } else {
-            return transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user);
+            transactions = after == null
+                    ? transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(user, limit)
+                    : transactionRepository.findAllByTransactionOwnerBefore(user, after.getUpdatedOn(), after.getId(), limit);
         }
+
+        return KeysetPage.of(transactions, pageSize, transaction -> new PageCursor(transaction.getUpdatedOn(), transaction.getId()));
     }
 
     public Transaction getById(UUID id) {
@@ -63,7 +99,7 @@ public class TransactionService {
         Transaction transaction = transactionRepository.findById(id).orElseThrow(() -> new TransactionNotFoundException("Transaction not found"));
 
         if (user.getRole() != UserRole.ADMIN) {
-            if (!transaction.getTransactionOwner().equals(user) || transaction.isDeleted()) {
+            if (!transaction.getTransactionOwner().getId().equals(user.getId()) || transaction.isDeleted()) {
                 throw new DomainException("Access denied for this transaction");
             }
         }
@@ -71,11 +107,13 @@ public class TransactionService {
         return transaction;
     }
 
+    @Transactional
     public void softDelete(UUID id) {
         Transaction transaction = getById(id);
         transaction.setDeleted(!transaction.isDeleted());
         transaction.setUpdatedOn(LocalDateTime.now());
         transactionRepository.save(transaction);
+        userActivityService.record(new UserActivityChanges().transactionDeletionToggled(transaction));
 
         log.info("Soft delete toggled for claim . Deleted status is now {}", transaction.isDeleted());
     }
@@ -14,13 +14,22 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "`user`")
+@Table(name = "`user`", indexes = {
+        @Index(name = "ux_user_username", columnList = "username", unique = true),
+        @Index(name = "ix_user_updated_on", columnList = "updatedOn")
+})
 public class User {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    /**
+     * Guards admin and profile edits against overwriting each other. Balance changes are atomic updates that bump it.
+     */
+    @Version
+    private long version;
+
     private String email;
 
     @Column(nullable = false)
@@ -60,7 +69,7 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime updatedOn;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "policy_id", nullable = false)
     private Policy policy;
 }
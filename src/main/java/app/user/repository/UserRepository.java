@@ -1,9 +1,19 @@
 package app.user.repository;
 
+import app.policy.model.Policy;
 import app.user.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,5 +23,33 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByUsername(String username);
 
+    @EntityGraph(attributePaths = "policy")
     List<User> findAllByOrderByUpdatedOnDesc();
+
+    @Query("SELECT u.id FROM User u")
+    List<UUID> findAllIds();
+
+    /**
+     * Locks the rows of the given users until the end of the transaction, in id order, so transactions that lock
+     * several users never wait on each other in a cycle.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<UUID> lockAllById(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Adds {@code amount} to the stored balance in a single statement, so concurrent credits of the same user
+     * are applied one after another by the database instead of overwriting each other.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.accountBalance = u.accountBalance + :amount, u.updatedOn = :updatedOn, u.version = u.version + 1 WHERE u.id = :id")
+    int credit(@Param("id") UUID id, @Param("amount") BigDecimal amount, @Param("updatedOn") LocalDateTime updatedOn);
+
+    /**
+     * Debits {@code price} and switches the policy only if the stored balance covers it. Returns 0 when it does not.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.accountBalance = u.accountBalance - :price, u.policy = :policy, u.updatedOn = :updatedOn, u.version = u.version + 1 " +
+            "WHERE u.id = :id AND u.accountBalance >= :price")
+    int purchasePolicy(@Param("id") UUID id, @Param("policy") Policy policy, @Param("price") BigDecimal price, @Param("updatedOn") LocalDateTime updatedOn);
 }
@@ -12,6 +12,8 @@ import app.transaction.service.TransactionService;
 import app.user.model.User;
 import app.user.model.UserRole;
 import app.user.repository.UserRepository;
+import app.utility.ConcurrencyRetry;
+import app.utility.Money;
 import app.web.dto.AccountBalanceRequest;
 import app.web.dto.ProfileEditRequest;
 import app.web.dto.RegisterRequest;
@@ -39,12 +41,14 @@ public class UserService implements UserDetailsService {
     private final PasswordEncoder passwordEncoder;
     private final PolicyService policyService;
     private final TransactionService transactionService;
+    private final ConcurrencyRetry concurrencyRetry;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, PolicyService policyService, TransactionService transactionService) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, PolicyService policyService, TransactionService transactionService, ConcurrencyRetry concurrencyRetry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.policyService = policyService;
         this.transactionService = transactionService;
+        this.concurrencyRetry = concurrencyRetry;
     }
 
     @Override
@@ -114,48 +118,53 @@ public class UserService implements UserDetailsService {
 
     @CacheEvict(value = "users", allEntries = true)
     public void updateProfile(UUID id, ProfileEditRequest profileEditRequest) {
+        concurrencyRetry.run("user.updateProfile", () -> {
+            User user = getById(id);
 
-        User user = getById(id);
-
-        user.setFirstName(profileEditRequest.getFirstName());
-        user.setLastName(profileEditRequest.getLastName());
-        user.setEmail(profileEditRequest.getEmail());
-        user.setProfilePicture(profileEditRequest.getProfilePicture());
-        user.setUpdatedOn(LocalDateTime.now());
+            user.setFirstName(profileEditRequest.getFirstName());
+            user.setLastName(profileEditRequest.getLastName());
+            user.setEmail(profileEditRequest.getEmail());
+            user.setProfilePicture(profileEditRequest.getProfilePicture());
+            user.setUpdatedOn(LocalDateTime.now());
 
-        userRepository.save(user);
+            userRepository.save(user);
 
-        log.info("Updated profile for user {}. New name: {} {}, email: {}",
-                user.getUsername(),
-                user.getFirstName(),
-                user.getLastName(),
-                user.getEmail());
+            log.info("Updated profile for user {}. New name: {} {}, email: {}",
+                    user.getUsername(),
+                    user.getFirstName(),
+                    user.getLastName(),
+                    user.getEmail());
+        });
     }
 
     @CacheEvict(value = "users", allEntries = true)
     public void changeRole(UUID id) {
-        User user = getById(id);
+        concurrencyRetry.run("user.changeRole", () -> {
+            User user = getById(id);
 
-        if (user.getRole() == UserRole.ADMIN) {
-            user.setRole(UserRole.POLICYHOLDER);
-        } else {
-            user.setRole(UserRole.ADMIN);
-        }
+            if (user.getRole() == UserRole.ADMIN) {
+                user.setRole(UserRole.POLICYHOLDER);
+            } else {
+                user.setRole(UserRole.ADMIN);
+            }
 
-        user.setUpdatedOn(LocalDateTime.now());
-        userRepository.save(user);
+            user.setUpdatedOn(LocalDateTime.now());
+            userRepository.save(user);
 
-        log.info("Changed role for user {}. New role: {}", user.getUsername(), user.getRole());
+            log.info("Changed role for user {}. New role: {}", user.getUsername(), user.getRole());
+        });
     }
 
     @CacheEvict(value = "users", allEntries = true)
     public void changeEmployment(UUID id) {
-        User user = getById(id);
-        user.setEmployed(!user.isEmployed());
-        user.setUpdatedOn(LocalDateTime.now());
-        userRepository.save(user);
+        concurrencyRetry.run("user.changeEmployment", () -> {
+            User user = getById(id);
+            user.setEmployed(!user.isEmployed());
+            user.setUpdatedOn(LocalDateTime.now());
+            userRepository.save(user);
 
-        log.info("Changed employment status for user {}. Employed: {}", user.getUsername(), user.isEmployed());
+            log.info("Changed employment status for user {}. Employed: {}", user.getUsername(), user.isEmployed());
+        });
     }
 
     @Cacheable("users")
@@ -163,38 +172,43 @@ public class UserService implements UserDetailsService {
         return userRepository.findAllByOrderByUpdatedOnDesc();
     }
 
-    @Transactional
     @CacheEvict(value = "users", allEntries = true)
     public void updateBalance(UUID id, AccountBalanceRequest accountBalanceRequest) {
-        User user = getById(id);
-        BigDecimal amountToIncrease = accountBalanceRequest.getAddedAmount();
-        user.setAccountBalance(user.getAccountBalance().add(amountToIncrease));
-        user.setUpdatedOn(LocalDateTime.now());
-        userRepository.save(user);
-        transactionService.create(user, amountToIncrease, TransactionStatus.COMPLETED);
-
-        log.info("Updated balance for user {}. Added amount: {}, new balance: {}",
-                user.getUsername(),
-                amountToIncrease,
-                user.getAccountBalance());
+        concurrencyRetry.run("user.updateBalance", () -> {
+            User user = getById(id);
+            BigDecimal amountToIncrease = accountBalanceRequest.getAddedAmount();
+            credit(id, amountToIncrease);
+            transactionService.create(user, Money.of(amountToIncrease), TransactionStatus.COMPLETED);
+
+            log.info("Updated balance for user {}. Added amount: {}", user.getUsername(), amountToIncrease);
+        });
     }
 
     @CacheEvict(value = "users", allEntries = true)
     public boolean changePolicy(UUID id, User user) {
-        Policy policy = policyService.getById(id);
+        return concurrencyRetry.execute("user.changePolicy", () -> {
+            Policy policy = policyService.getById(id);
+
+            if (userRepository.purchasePolicy(user.getId(), policy, policy.getPolicyPrice(), LocalDateTime.now()) == 1) {
+                transactionService.create(user, Money.of(policy.getPolicyPrice()), TransactionStatus.COMPLETED);
+                log.info("User [{}] changed policy to [{}].", user.getUsername(), policy.getPolicyType().getDisplayName());
+                return true;
+            } else {
+                transactionService.create(user, Money.of(policy.getPolicyPrice()), TransactionStatus.FAILED);
+                log.info("User [{}] unsuccessfully tried to change policy to [{}].", user.getUsername(), policy.getPolicyType().getDisplayName());
+                return false;
+            }
+        });
+    }
 
-        if (user.getAccountBalance().compareTo(policy.getPolicyPrice()) >= 0) {
-            user.setAccountBalance(user.getAccountBalance().subtract(policy.getPolicyPrice()));
-            user.setPolicy(policy);
-            user.setUpdatedOn(LocalDateTime.now());
-            userRepository.save(user);
-            transactionService.create(user, policy.getPolicyPrice(), TransactionStatus.COMPLETED);
-            log.info("User [{}] changed policy to [{}].", user.getUsername(), policy.getPolicyType().getDisplayName());
-            return true;
-        } else {
-            transactionService.create(user, policy.getPolicyPrice(), TransactionStatus.FAILED);
-            log.info("User [{}] unsuccessfully tried to change policy to [{}].", user.getUsername(), policy.getPolicyType().getDisplayName());
-            return false;
+    /**
+     * Credits the balance with an atomic update. Entities of this user loaded earlier in the transaction are stale afterwards.
+     */
+    @Transactional
+    @CacheEvict(value = "users", allEntries = true)
+    public void credit(UUID id, BigDecimal amount) {
+        if (userRepository.credit(id, amount, LocalDateTime.now()) == 0) {
+            throw new UserNotFoundException("User with [%s] id is not present.".formatted(id));
         }
     }
 
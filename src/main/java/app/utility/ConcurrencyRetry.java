@@ -0,0 +1,126 @@
+package app.utility;
+
+import app.configuration.ConcurrencyRetryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a read-modify-write operation in its own transaction and runs it again, after a random pause, when it lost a
+ * version check or a lock to a concurrent writer. Every attempt reads the entities again, because the rollback of the
+ * failed attempt clears the persistence context.
+ * <p>
+ * A violation of one of the configured regenerated unique keys is retried the same way: those values are generated
+ * afresh by every attempt, so a collision with an existing row does not repeat.
+ * <p>
+ * Inside an already running transaction the operation runs once: the conflict has marked that transaction for
+ * rollback, so only its owner can start over.
+ */
+@Slf4j
+@Component
+public class ConcurrencyRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrencyRetryProperties concurrencyRetryProperties;
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyRetry(TransactionTemplate transactionTemplate, ConcurrencyRetryProperties concurrencyRetryProperties, MeterRegistry meterRegistry) {
+        this.transactionTemplate = transactionTemplate;
+        this.concurrencyRetryProperties = concurrencyRetryProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        return execute(operation, transactionTemplate, action);
+    }
+
+    /**
+     * Like {@link #run(String, Runnable)}, with every attempt in a transaction of the given isolation level. Inside an
+     * already running transaction the operation runs once at the isolation level of that transaction.
+     */
+    public void run(String operation, int isolationLevel, Runnable action) {
+        TransactionTemplate isolated = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        isolated.setIsolationLevel(isolationLevel);
+
+        execute(operation, isolated, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T execute(String operation, TransactionTemplate transaction, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> action.get());
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (e instanceof DataIntegrityViolationException && !violatesRegeneratedKey(e)) {
+                    throw e;
+                }
+
+                meterRegistry.counter("concurrency.conflicts", "operation", operation).increment();
+
+                if (attempt >= concurrencyRetryProperties.getMaxAttempts()) {
+                    meterRegistry.counter("concurrency.retries.exhausted", "operation", operation).increment();
+                    log.warn("Gave up on [{}] after {} conflicting attempts", operation, attempt);
+                    throw e;
+                }
+
+                meterRegistry.counter("concurrency.retries", "operation", operation).increment();
+                log.info("Concurrent update of [{}], retrying (attempt {})", operation, attempt);
+                pause(attempt, e);
+            }
+        }
+    }
+
+    /**
+     * Full jitter: a random pause below an exponentially growing cap, so writers that collided once do not collide
+     * again on the next attempt.
+     */
+    private void pause(int attempt, DataAccessException conflict) {
+        long initial = concurrencyRetryProperties.getInitialBackoff().toMillis();
+        long cap = Math.min(concurrencyRetryProperties.getMaxBackoff().toMillis(), initial << Math.min(attempt - 1, 20));
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    /**
+     * Looks for the name of a regenerated unique key in the messages of the violation and its causes. The drivers
+     * report the violated index by name, though not in the same letter case.
+     */
+    private boolean violatesRegeneratedKey(DataAccessException violation) {
+        for (Throwable cause = violation; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage() == null ? "" : cause.getMessage().toLowerCase(Locale.ROOT);
+
+            if (concurrencyRetryProperties.getRegeneratedUniqueKeys().stream().anyMatch(key -> message.contains(key.toLowerCase(Locale.ROOT)))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package app.utility;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+
+    private final List<T> content;
+    private final PageCursor nextCursor;
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code pageSize + 1}; the extra row only tells whether a next
+     * page exists and is not rendered.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int pageSize, Function<T, PageCursor> cursorOf) {
+
+        if (rows.size() <= pageSize) {
+            return new KeysetPage<>(rows, null);
+        }
+
+        List<T> content = rows.subList(0, pageSize);
+
+        return new KeysetPage<>(content, cursorOf.apply(content.get(pageSize - 1)));
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,76 @@
+package app.utility;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amount of money held as a whole number of cents. Comparisons and sums work on the {@code long} directly, so deciding
+ * and totalling amounts does not create intermediate objects; arithmetic fails with {@link ArithmeticException} instead
+ * of silently overflowing.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    private final long minorUnits;
+
+    public static Money ofMinorUnits(long minorUnits) {
+
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Converts an amount with at most two decimal places. More precise amounts are rejected rather than rounded.
+     */
+    public static Money of(BigDecimal amount) {
+
+        return ofMinorUnits(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    public static Money of(long amount) {
+
+        return ofMinorUnits(Math.multiplyExact(amount, 100L));
+    }
+
+    public Money plus(Money other) {
+
+        return ofMinorUnits(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+
+        return ofMinorUnits(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public int signum() {
+
+        return Long.signum(minorUnits);
+    }
+
+    public BigDecimal toBigDecimal() {
+
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,24 @@
+package app.utility;
+
+import org.springframework.format.Formatter;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Renders {@link Money} in views through the conversion service, e.g. {@code ${{claim.requestedAmount}}}.
+ */
+public class MoneyFormatter implements Formatter<Money> {
+
+    @Override
+    public String print(Money money, Locale locale) {
+
+        return money.toString();
+    }
+
+    @Override
+    public Money parse(String text, Locale locale) {
+
+        return Money.of(new BigDecimal(text.trim()));
+    }
+}
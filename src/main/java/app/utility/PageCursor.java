@@ -0,0 +1,47 @@
+package app.utility;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a listing page ordered by (updatedOn DESC, id DESC). The next page starts strictly
+ * after it, so page loads cost the same no matter how deep the user has paged.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime updatedOn;
+    private final UUID id;
+
+    /**
+     * Parses a token produced by {@link #toToken()}. Blank or malformed tokens yield {@code null}, i.e. the first page.
+     */
+    public static PageCursor parse(String token) {
+
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        int separator = token.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            return null;
+        }
+
+        try {
+            return new PageCursor(LocalDateTime.parse(token.substring(0, separator)), UUID.fromString(token.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public String toToken() {
+        return updatedOn + SEPARATOR + id;
+    }
+}
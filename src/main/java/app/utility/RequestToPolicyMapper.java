@@ -14,6 +14,7 @@ public class RequestToPolicyMapper {
                 .limitForSurgery(policy.getLimitForSurgery())
                 .limitForDentalService(policy.getLimitForDentalService())
                 .policyPrice(policy.getPolicyPrice())
+                .version(policy.getVersion())
                 .build();
     }
 }
\ No newline at end of file
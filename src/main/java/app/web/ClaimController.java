@@ -1,10 +1,13 @@
 package app.web;
 import app.claim.model.Claim;
+import app.claim.model.ClaimSubmission;
 import app.claim.service.ClaimService;
 import app.security.AuthenticationMetadata;
 import app.user.model.User;
 import app.user.service.UserService;
 import app.utility.DocumentUtil;
+import app.utility.KeysetPage;
+import app.utility.PageCursor;
 import app.web.dto.ClaimSubmissionRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,7 +18,6 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.ModelAndView;
 
-import java.util.List;
 import java.util.UUID;
 
 
@@ -34,15 +36,18 @@ public class ClaimController {
     }
 
     @GetMapping
-    public ModelAndView getAllClaimsPage(@AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
+    public ModelAndView getAllClaimsPage(@RequestParam(required = false) String cursor, @AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
 
         User user = userService.getById(authenticationMetadata.getUserId());
-        List<Claim> allClaims = claimService.getClaims(user);
+        KeysetPage<Claim> claimsPage = claimService.getClaims(user, PageCursor.parse(cursor));
 
         ModelAndView modelAndView = new ModelAndView();
         modelAndView.setViewName("claims");
         modelAndView.addObject("user", user);
-        modelAndView.addObject("allClaims", allClaims);
+        modelAndView.addObject("allClaims", claimsPage.getContent());
+        modelAndView.addObject("nextCursor", claimsPage.hasNext() ? claimsPage.getNextCursor().toToken() : null);
+        modelAndView.addObject("firstPage", cursor == null);
+        modelAndView.addObject("reviewCutoff", claimService.getReviewCutoff());
 
         return modelAndView;
     }
@@ -70,6 +75,7 @@ public class ClaimController {
         ModelAndView modelAndView = new ModelAndView();
         modelAndView.setViewName("claim-details");
         modelAndView.addObject("claim", claim);
+        modelAndView.addObject("reviewCutoff", claimService.getReviewCutoff());
 
         return modelAndView;
     }
@@ -87,7 +93,11 @@ public class ClaimController {
             return modelAndView;
         }
 
-        claimService.createClaim(claimSubmissionRequest, user);
+        ClaimSubmission claimSubmission = claimService.createClaim(claimSubmissionRequest, user);
+
+        if (claimSubmission.isDelayed()) {
+            return new ModelAndView("redirect:/claims?delayed");
+        }
 
         return new ModelAndView("redirect:/claims");
     }
@@ -1,6 +1,8 @@
 package app.web;
 
 import app.exception.*;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -47,6 +49,18 @@ public class GlobalControllerAdvice {
         return "redirect:/register";
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ClaimSubmissionRejectedException.class)
+    public ModelAndView handleClaimSubmissionRejectedException(ClaimSubmissionRejectedException exception, HttpServletResponse response) {
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, "600");
+
+        ModelAndView modelAndView = new ModelAndView("try-again-later");
+        modelAndView.addObject("message", exception.getMessage());
+
+        return modelAndView;
+    }
+
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(UserNotFoundException.class)
     public ModelAndView handleUserNotFoundException(UserNotFoundException exception) {
@@ -1,5 +1,6 @@
 package app.web;
 
+import app.exception.PolicyUpdateConflictException;
 import app.policy.model.Policy;
 import app.policy.service.PolicyService;
 import app.security.AuthenticationMetadata;
@@ -8,6 +9,7 @@ import app.user.service.UserService;
 import app.utility.RequestToPolicyMapper;
 import app.web.dto.PolicyLimitsChangeRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -87,7 +89,18 @@ public class PolicyController {
 
         User admin = userService.getById(authenticationMetadata.getUserId());
 
-        policyService.updatePolicyLimits(policy, policyLimitsChangeRequest, admin);
+        try {
+            policyService.updatePolicyLimits(policy, policyLimitsChangeRequest, admin);
+        } catch (PolicyUpdateConflictException e) {
+            Policy current = policyService.getById(id);
+
+            ModelAndView modelAndView = new ModelAndView("policy-limits-form");
+            modelAndView.setStatus(HttpStatus.CONFLICT);
+            modelAndView.addObject("policy", current);
+            modelAndView.addObject("policyLimitsChangeRequest", RequestToPolicyMapper.fromPolicyToEditRequest(current));
+            modelAndView.addObject("conflictMessage", e.getMessage());
+            return modelAndView;
+        }
 
         return new ModelAndView("redirect:/policy");
     }
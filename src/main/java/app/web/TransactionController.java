@@ -5,6 +5,8 @@ import app.transaction.model.Transaction;
 import app.transaction.service.TransactionService;
 import app.user.model.User;
 import app.user.service.UserService;
+import app.utility.KeysetPage;
+import app.utility.PageCursor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -12,9 +14,9 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 
-import java.util.List;
 import java.util.UUID;
 
 @Controller
@@ -30,14 +32,16 @@ public class TransactionController {
     }
 
     @GetMapping
-    public ModelAndView getTransactions(@AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
+    public ModelAndView getTransactions(@RequestParam(required = false) String cursor, @AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
 
         User user = userService.getById(authenticationMetadata.getUserId());
-        List<Transaction> allTransactions = transactionService.getAllTransactions(user);
+        KeysetPage<Transaction> transactionsPage = transactionService.getAllTransactions(user, PageCursor.parse(cursor));
 
         ModelAndView modelAndView = new ModelAndView();
         modelAndView.setViewName("transactions");
-        modelAndView.addObject("transactions", allTransactions);
+        modelAndView.addObject("transactions", transactionsPage.getContent());
+        modelAndView.addObject("nextCursor", transactionsPage.hasNext() ? transactionsPage.getNextCursor().toToken() : null);
+        modelAndView.addObject("firstPage", cursor == null);
 
         return modelAndView;
     }
@@ -1,6 +1,7 @@
 package app.web.dto;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -15,5 +16,6 @@ public class AccountBalanceRequest {
 
     @NotNull(message = "Field cannot be empty!")
     @DecimalMin(value = "0.01")
+    @Digits(integer = 15, fraction = 2, message = "Amount must have at most two decimal places.")
     private BigDecimal addedAmount;
 }
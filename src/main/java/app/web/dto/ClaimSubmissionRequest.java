@@ -2,6 +2,7 @@ package app.web.dto;
 
 import app.claim.model.ClaimType;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -19,6 +20,7 @@ public class ClaimSubmissionRequest {
 
     @NotNull(message = "Field cannot be empty!")
     @DecimalMin(value = "0.00")
+    @Digits(integer = 15, fraction = 2, message = "Amount must have at most two decimal places.")
     private BigDecimal requestedAmount;
 
     @NotNull(message = "Field cannot be empty!")
@@ -1,6 +1,7 @@
 package app.web.dto;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -15,21 +16,29 @@ public class PolicyLimitsChangeRequest {
 
     @NotNull(message = "Field cannot be empty!")
     @DecimalMin(value = "0.00")
+    @Digits(integer = 15, fraction = 2, message = "Amount must have at most two decimal places.")
     private BigDecimal limitForMedications;
 
     @NotNull(message = "Field cannot be empty!")
     @DecimalMin(value = "0.00")
+    @Digits(integer = 15, fraction = 2, message = "Amount must have at most two decimal places.")
     private BigDecimal limitForHospitalTreatment;
 
     @NotNull(message = "Field cannot be empty!")
     @DecimalMin(value = "0.00")
+    @Digits(integer = 15, fraction = 2, message = "Amount must have at most two decimal places.")
     private BigDecimal limitForSurgery;
 
     @NotNull(message = "Field cannot be empty!")
     @DecimalMin(value = "0.00")
+    @Digits(integer = 15, fraction = 2, message = "Amount must have at most two decimal places.")
     private BigDecimal limitForDentalService;
 
     @NotNull(message = "Field cannot be empty!")
     @DecimalMin(value = "0.00")
+    @Digits(integer = 15, fraction = 2, message = "Amount must have at most two decimal places.")
     private BigDecimal policyPrice;
+
+    @NotNull
+    private Long version;
 }
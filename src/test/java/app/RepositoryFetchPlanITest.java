@@ -0,0 +1,161 @@
+package app;
+
+import app.activity.service.UserActivityService;
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimService;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.model.TransactionStatus;
+import app.transaction.service.TransactionService;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.utility.Money;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pins the number of SQL round-trips of the listing and evaluation paths, so an association that silently turns
+ * eager again (or an N+1 loop) fails here instead of in production.
+ */
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.Registration.class)
+@SpringBootTest(properties = "claims.evaluation.chunk-size=100")
+@Transactional
+class RepositoryFetchPlanITest {
+
+    private static final PolicyType[] POLICY_TYPES = {PolicyType.STANDARD, PolicyType.COMFORT, PolicyType.LUX};
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserActivityService userActivityService;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+
+        for (int i = 0; i < POLICY_TYPES.length; i++) {
+            User user = userRepository.save(User.builder()
+                    .username("fetch" + i)
+                    .password("Password1@")
+                    .email("fetch" + i + "@test.com")
+                    .firstName("John")
+                    .lastName("Doe")
+                    .role(UserRole.POLICYHOLDER)
+                    .permission("not_delete")
+                    .companyName(CompanyName.NEURO_NEST)
+                    .accountBalance(BigDecimal.ZERO)
+                    .policy(policyRepository.findByPolicyType(POLICY_TYPES[i]))
+                    .createdOn(LocalDateTime.now())
+                    .updatedOn(LocalDateTime.now())
+                    .build());
+            users.add(user);
+
+            for (int j = 0; j < 4; j++) {
+                claimRepository.save(Claim.builder()
+                        .user(user)
+                        .claimType(ClaimType.MEDICATION_EXPENSES)
+                        .claimStatus(ClaimStatus.FOR_REVIEW)
+                        .requestedAmount(Money.of(10))
+                        .attachedDocument("medication.jpg")
+                        .createdOn(LocalDateTime.now().minusHours(1))
+                        .updatedOn(LocalDateTime.now().minusHours(1))
+                        .deleted(false)
+                        .build());
+                transactionService.create(user, Money.of(10), TransactionStatus.COMPLETED);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    void getClaims_ShouldReadOnlyTheClaims() {
+
+        claimService.getClaims(admin(), null);
+        claimService.getClaims(users.get(0), null);
+
+        assertEquals(2, SqlStatementCounter.count("select", "claim"));
+        assertEquals(2, SqlStatementCounter.total());
+    }
+
+    @Test
+    void getAllTransactions_ShouldReadOnlyTheTransactions() {
+
+        transactionService.getAllTransactions(admin(), null);
+        transactionService.getAllTransactions(users.get(0), null);
+
+        assertEquals(2, SqlStatementCounter.count("select", "transaction"));
+        assertEquals(2, SqlStatementCounter.total());
+    }
+
+    @Test
+    void evaluateClaims_ShouldLoadClaimsAndUsersInOneSelectAndPoliciesFromTheCatalog() {
+
+        claimService.evaluateClaims();
+
+        // lease scan, evaluation select with user, and the final scan that finds the backlog drained, plus the
+        // backlog count of the checkpoint at the start of the run
+        assertEquals(4, SqlStatementCounter.count("select", "claim"));
+        assertEquals(0, SqlStatementCounter.count("select", "user"));
+        assertEquals(0, SqlStatementCounter.count("select", "policy"));
+        assertEquals(1, SqlStatementCounter.count("insert", "transaction"));
+        // lease, then the decisions
+        assertEquals(2, SqlStatementCounter.count("update", "claim"));
+        // one aggregated credit per user
+        assertEquals(3, SqlStatementCounter.count("update", "user"));
+    }
+
+    @Test
+    void reportTotals_ShouldTakeOneAggregateSelectOverTheDailyRollup() {
+
+        LocalDate today = LocalDate.now();
+
+        userActivityService.getTotals(users.get(0).getId(), today.minusDays(1), today);
+
+        assertEquals(1, SqlStatementCounter.count("select", "user_daily_activity"));
+        assertEquals(1, SqlStatementCounter.total());
+    }
+
+    private User admin() {
+        return User.builder().role(UserRole.ADMIN).build();
+    }
+}
@@ -0,0 +1,152 @@
+package app;
+
+import app.activity.repository.UserDailyActivityRepository;
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.repository.ClaimRepository;
+import app.policy.model.Policy;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionStatus;
+import app.transaction.repository.TransactionRepository;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.utility.Money;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every repository query, captures the SQL Hibernate generated for it and fails if the H2 (MySQL mode) plan of
+ * any of those statements falls back to a table scan.
+ */
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.Registration.class)
+@SpringBootTest
+@Transactional
+class RepositoryQueryPlanITest {
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private UserDailyActivityRepository userDailyActivityRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void repositoryQueries_ShouldAllUseAnIndex() {
+
+        Policy policy = policyRepository.findByPolicyType(PolicyType.STANDARD);
+
+        User user = userRepository.save(User.builder()
+                .username("plan")
+                .password("Password1@")
+                .email("plan@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policy)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+
+        Claim claim = claimRepository.save(Claim.builder()
+                .user(user)
+                .claimType(ClaimType.MEDICATION_EXPENSES)
+                .claimStatus(ClaimStatus.FOR_REVIEW)
+                .requestedAmount(Money.of(10))
+                .attachedDocument("medication.jpg")
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .deleted(false)
+                .build());
+
+        transactionRepository.save(Transaction.builder()
+                .transactionOwner(user)
+                .transactionStatus(TransactionStatus.COMPLETED)
+                .referenceNumber("PLAN0001")
+                .paidAmount(Money.of(10))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .deleted(false)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.reset();
+
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+
+        claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user);
+        claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDescIdDesc(user, Limit.of(10));
+        claimRepository.findAllByUserBefore(user, to, UUID.randomUUID(), Limit.of(10));
+        claimRepository.findAllByClaimStatus(ClaimStatus.FOR_REVIEW);
+        claimRepository.findAllByClaimStatusAndCreatedOnLessThanEqual(ClaimStatus.OPEN, to);
+        claimRepository.findAllByClaimStatusAndCreatedOnAfter(ClaimStatus.OPEN, from);
+        claimRepository.countByClaimStatus(ClaimStatus.FOR_REVIEW);
+        claimRepository.countByClaimStatusIn(List.of(ClaimStatus.OPEN, ClaimStatus.FOR_REVIEW));
+        claimRepository.countByClaimStatusAndCreatedOnLessThanEqual(ClaimStatus.OPEN, to);
+        claimRepository.findLeasableKeys(ClaimStatus.FOR_REVIEW, to, to, Limit.of(10));
+        claimRepository.findLeasableKeysByDueOn(ClaimStatus.FOR_REVIEW, to, to, Limit.of(10));
+        claimRepository.findLeasedIds(List.of(claim.getId()), "node");
+        claimRepository.findAllByIdInAndClaimStatusAndLeaseOwnerOrderByCreatedOnAscIdAsc(List.of(claim.getId()), ClaimStatus.FOR_REVIEW, "node");
+        claimRepository.findAllByOrderByUpdatedOnDescIdDesc(Limit.of(10));
+        claimRepository.findAllBefore(to, UUID.randomUUID(), Limit.of(10));
+        transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user);
+        transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(user, Limit.of(10));
+        transactionRepository.findAllByTransactionOwnerBefore(user, to, UUID.randomUUID(), Limit.of(10));
+        transactionRepository.findAllByOrderByUpdatedOnDescIdDesc(Limit.of(10));
+        transactionRepository.findAllBefore(to, UUID.randomUUID(), Limit.of(10));
+        userDailyActivityRepository.findAllByUserId(user.getId());
+        userDailyActivityRepository.sumByUserIdAndActivityDateBetween(user.getId(), from.toLocalDate(), to.toLocalDate());
+        userDailyActivityRepository.sumClaimsByDay(user.getId());
+        userDailyActivityRepository.sumTransactionsByDay(user.getId());
+        userRepository.findByUsername("plan");
+        userRepository.findAllByOrderByUpdatedOnDesc();
+        policyRepository.findByPolicyType(PolicyType.LUX);
+
+        List<SqlStatementCounter.ExecutedQuery> selects = SqlStatementCounter.selects();
+        assertFalse(selects.isEmpty());
+
+        for (SqlStatementCounter.ExecutedQuery select : selects) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + select.sql(), String.class, select.parameters().toArray()));
+            assertFalse(plan.contains("tableScan"), () -> "Full scan for:\n" + select.sql() + "\nPlan:\n" + plan);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package app;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Counts database round-trips grouped by statement kind and table. A JDBC batch is executed in one round-trip, so it
+ * counts once no matter how many rows it carries. Enable it with {@code @Import(SqlStatementCounter.Registration.class)}.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private static final Map<String, AtomicInteger> COUNTS = new ConcurrentHashMap<>();
+    private static final List<ExecutedQuery> SELECTS = new CopyOnWriteArrayList<>();
+
+    public static void reset() {
+        COUNTS.clear();
+        SELECTS.clear();
+    }
+
+    /**
+     * SELECT statements executed since the last reset, with the parameters of their first execution.
+     */
+    public static List<ExecutedQuery> selects() {
+        return List.copyOf(SELECTS);
+    }
+
+    /**
+     * Round-trips of the given kind against the given table, e.g. {@code count("insert", "transaction")}.
+     */
+    public static int count(String kind, String table) {
+        AtomicInteger count = COUNTS.get(kind + " " + table);
+        return count == null ? 0 : count.get();
+    }
+
+    public static int total() {
+        return COUNTS.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Set<String> keys = queryInfoList.stream()
+                .map(queryInfo -> key(queryInfo.getQuery()))
+                .collect(Collectors.toSet());
+
+        keys.forEach(key -> COUNTS.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet());
+
+        queryInfoList.stream()
+                .filter(queryInfo -> queryInfo.getQuery().trim().toLowerCase().startsWith("select"))
+                .map(queryInfo -> new ExecutedQuery(queryInfo.getQuery(), parameters(queryInfo)))
+                .forEach(SELECTS::add);
+    }
+
+    private static List<Object> parameters(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return List.of();
+        }
+
+        return queryInfo.getParametersList().get(0).stream()
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .map(operation -> operation.getArgs()[1])
+                .toList();
+    }
+
+    private static String key(String sql) {
+        String[] tokens = sql.trim().toLowerCase().replace("`", "").split("\\s+");
+        String kind = tokens[0];
+
+        String table = switch (kind) {
+            case "insert", "delete" -> tokens.length > 2 ? tokens[2] : "";
+            case "update" -> tokens.length > 1 ? tokens[1] : "";
+            case "select" -> tableAfterFrom(tokens);
+            default -> "";
+        };
+
+        return kind + " " + table;
+    }
+
+    private static String tableAfterFrom(String[] tokens) {
+        for (int i = 0; i < tokens.length - 1; i++) {
+            if (tokens[i].equals("from")) {
+                return tokens[i + 1];
+            }
+        }
+
+        return "";
+    }
+
+    public record ExecutedQuery(String sql, List<Object> parameters) {
+    }
+
+    @TestConfiguration
+    public static class Registration {
+
+        @Bean
+        public static BeanPostProcessor sqlStatementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name(beanName)
+                                .listener(new SqlStatementCounter())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package app.activity;
+
+import app.activity.model.UserActivityTotals;
+import app.activity.repository.UserDailyActivityRepository;
+import app.activity.service.UserActivityService;
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.service.ClaimService;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionStatus;
+import app.transaction.service.TransactionService;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.utility.Money;
+import app.web.dto.ClaimSubmissionRequest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class UserActivityITest {
+
+    @Autowired
+    private UserActivityService userActivityService;
+
+    @Autowired
+    private UserDailyActivityRepository userDailyActivityRepository;
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("activity")
+                .password("Password1@")
+                .email("activity@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policyRepository.findByPolicyType(PolicyType.STANDARD))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void writers_ShouldKeepTheRollupEqualToTheRawTables() {
+
+        submitClaim(BigDecimal.TEN);
+        submitClaim(BigDecimal.valueOf(20));
+        Claim tooExpensive = submitClaim(BigDecimal.valueOf(1_000_000));
+        Claim deleted = submitClaim(BigDecimal.valueOf(30));
+        claimService.softDelete(deleted.getId());
+        claimService.moveOpenClaimsToReview();
+        claimService.evaluateClaims();
+
+        Transaction topUp = transactionService.create(user, Money.of(100), TransactionStatus.COMPLETED);
+        transactionService.create(user, Money.of(5), TransactionStatus.COMPLETED);
+        transactionService.softDelete(topUp.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDate today = LocalDate.now();
+        UserActivityTotals totals = userActivityService.getTotals(user.getId(), today.minusDays(1), today);
+
+        assertEquals(ClaimStatus.REJECTED, claimService.getById(tooExpensive.getId()).getClaimStatus());
+        assertEquals(3, totals.getClaims());
+        assertEquals(2, totals.getApprovedClaims());
+        assertTrue(userActivityService.check().isEmpty());
+    }
+
+    @Test
+    void check_DriftedRollup_ShouldReportTheUserUntilItIsRebuilt() {
+
+        submitClaim(BigDecimal.TEN);
+        transactionService.create(user, Money.of(100), TransactionStatus.COMPLETED);
+        userDailyActivityRepository.deleteAllByUserId(user.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDate today = LocalDate.now();
+        assertEquals(0, userActivityService.getTotals(user.getId(), today, today).getClaims());
+        assertEquals(List.of(user.getId()), userActivityService.check());
+
+        userActivityService.rebuild();
+        entityManager.clear();
+
+        UserActivityTotals totals = userActivityService.getTotals(user.getId(), today, today);
+        assertEquals(1, totals.getClaims());
+        assertEquals(1, totals.getTransactions());
+        assertEquals(Money.of(100), totals.getPaidAmount());
+        assertTrue(userActivityService.check().isEmpty());
+    }
+
+    @Test
+    void getTotals_OutsideTheRecordedDays_ShouldReturnZeros() {
+
+        submitClaim(BigDecimal.TEN);
+
+        UserActivityTotals totals = userActivityService.getTotals(user.getId(), LocalDate.now().minusDays(30), LocalDate.now().minusDays(1));
+
+        assertEquals(0, totals.getClaims());
+        assertEquals(Money.ZERO, totals.getPaidAmount());
+    }
+
+    private Claim submitClaim(BigDecimal amount) {
+        return claimService.createClaim(ClaimSubmissionRequest.builder()
+                .claimType(ClaimType.MEDICATION_EXPENSES)
+                .requestedAmount(amount)
+                .attachedDocument("medication.jpg")
+                .build(), user).getClaim();
+    }
+}
@@ -0,0 +1,149 @@
+package app.activity;
+
+import app.activity.model.UserActivityTotals;
+import app.activity.repository.UserDailyActivityRepository;
+import app.activity.service.UserActivityService;
+import app.claim.model.ClaimType;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimService;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.model.TransactionStatus;
+import app.transaction.repository.TransactionRepository;
+import app.transaction.service.TransactionService;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.utility.ConcurrencyRetry;
+import app.utility.Money;
+import app.web.dto.ClaimSubmissionRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rebuilds the rollup of a user over and over while other threads commit claims and transactions of that user, so a
+ * change counted both by the recomputation and by its own upsert would show up in the totals. The writers take no
+ * locks for the rollup, only the rebuild does.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class UserActivityRebuildConcurrencyITest {
+
+    private static final int WRITERS = 4;
+    private static final int WRITES_PER_WRITER = 20;
+
+    @Autowired
+    private UserActivityService userActivityService;
+
+    @Autowired
+    private UserDailyActivityRepository userDailyActivityRepository;
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ConcurrencyRetry concurrencyRetry;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("rebuilt")
+                .password("Password1@")
+                .email("rebuilt@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policyRepository.findByPolicyType(PolicyType.STANDARD))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        concurrencyRetry.run("test.cleanUp", () -> userDailyActivityRepository.deleteAllByUserId(user.getId()));
+        transactionRepository.deleteAll(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user));
+        claimRepository.deleteAll(claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user));
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void rebuild_WhileWritesCommit_ShouldCountEveryWriteOnce() {
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CompletableFuture<Integer> rebuilder = CompletableFuture.supplyAsync(() -> {
+            int rebuilds = 0;
+            while (writing.get()) {
+                try {
+                    userActivityService.rebuild(user.getId());
+                    rebuilds++;
+                } catch (ConcurrencyFailureException e) {
+                    // a rebuild that gave up rolled back without touching the rollup
+                }
+            }
+            return rebuilds;
+        });
+
+        List<CompletableFuture<Void>> writers = IntStream.range(0, WRITERS)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < WRITES_PER_WRITER; j++) {
+                        claimService.createClaim(ClaimSubmissionRequest.builder()
+                                .claimType(ClaimType.MEDICATION_EXPENSES)
+                                .requestedAmount(BigDecimal.ONE)
+                                .attachedDocument("medication.jpg")
+                                .build(), user);
+                        transactionService.create(user, Money.of(1), TransactionStatus.COMPLETED);
+                    }
+                }))
+                .toList();
+
+        CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).join();
+        writing.set(false);
+        assertTrue(rebuilder.join() > 0);
+
+        LocalDate today = LocalDate.now();
+        UserActivityTotals totals = userActivityService.getTotals(user.getId(), today, today);
+        assertEquals(WRITERS * WRITES_PER_WRITER, totals.getClaims());
+        assertEquals(WRITERS * WRITES_PER_WRITER, totals.getTransactions());
+        assertEquals(Money.of(WRITERS * WRITES_PER_WRITER), totals.getPaidAmount());
+        assertFalse(userActivityService.check().contains(user.getId()));
+    }
+}
@@ -0,0 +1,105 @@
+package app.claim;
+
+import app.claim.model.ClaimAdmission;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimBacklog;
+import app.configuration.ClaimIntakeProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimBacklogUTest {
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ClaimBacklog claimBacklog;
+
+    @BeforeEach
+    void setUp() {
+        ClaimIntakeProperties properties = new ClaimIntakeProperties();
+        properties.setBacklogSoftLimit(2);
+        properties.setBacklogHardLimit(3);
+
+        claimBacklog = new ClaimBacklog(claimRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void admit_ShouldFollowTheBacklogThresholds() {
+
+        claimBacklog.submitted();
+        assertEquals(ClaimAdmission.ACCEPTED, claimBacklog.admit());
+
+        claimBacklog.submitted();
+        assertEquals(ClaimAdmission.DELAYED, claimBacklog.admit());
+
+        claimBacklog.submitted();
+        assertEquals(ClaimAdmission.REJECTED, claimBacklog.admit());
+
+        claimBacklog.decided(2);
+        assertEquals(ClaimAdmission.ACCEPTED, claimBacklog.admit());
+    }
+
+    @Test
+    void submitted_InATransaction_ShouldCountOnlyOnceCommitted() {
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            claimBacklog.submitted();
+            assertEquals(0, claimBacklog.size());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, claimBacklog.size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void submitted_RolledBack_ShouldNotCount() {
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            claimBacklog.submitted();
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, claimBacklog.size());
+    }
+
+    @Test
+    void decided_ShouldNotGoBelowZero() {
+
+        claimBacklog.submitted();
+        claimBacklog.decided(5);
+
+        assertEquals(0, claimBacklog.size());
+    }
+
+    @Test
+    void resync_ShouldReplaceTheCountAndExportIt() {
+
+        claimBacklog.submitted();
+        when(claimRepository.countByClaimStatusIn(anyCollection())).thenReturn(42L);
+
+        claimBacklog.resync();
+
+        assertEquals(42, claimBacklog.size());
+        assertEquals(42, meterRegistry.get("claims.backlog").gauge().value());
+    }
+}
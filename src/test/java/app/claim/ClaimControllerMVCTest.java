@@ -3,6 +3,7 @@ package app.claim;
 import app.claim.model.*;
 import app.claim.service.ClaimService;
 import app.exception.ClaimNotFoundException;
+import app.exception.ClaimSubmissionRejectedException;
 import app.exception.DomainException;
 import app.policy.model.Policy;
 import app.policy.model.PolicyType;
@@ -10,6 +11,8 @@ import app.security.AuthenticationMetadata;
 import app.user.model.*;
 import app.user.service.UserService;
 import app.utility.DocumentUtil;
+import app.utility.KeysetPage;
+import app.utility.Money;
 import app.web.ClaimController;
 import app.web.dto.ClaimSubmissionRequest;
 import org.junit.jupiter.api.Test;
@@ -84,7 +87,7 @@ class ClaimControllerMVCTest {
                 .id(UUID.randomUUID())
                 .claimType(ClaimType.MEDICATION_EXPENSES)
                 .claimStatus(status)
-                .requestedAmount(BigDecimal.TEN)
+                .requestedAmount(Money.of(10))
                 .attachedDocument("medication.pdf")
                 .description("Test claim")
                 .user(user)
@@ -106,7 +109,7 @@ class ClaimControllerMVCTest {
         Claim claim = createDummyClaim(user, ClaimStatus.OPEN);
 
         when(userService.getById(user.getId())).thenReturn(user);
-        when(claimService.getClaims(user)).thenReturn(List.of(claim));
+        when(claimService.getClaims(eq(user), isNull())).thenReturn(new KeysetPage<>(List.of(claim), null));
 
         mockMvc.perform(get("/claims").with(user(auth(user))))
                 .andExpect(status().isOk())
@@ -115,7 +118,7 @@ class ClaimControllerMVCTest {
                 .andExpect(model().attributeExists("allClaims"));
 
         verify(userService).getById(user.getId());
-        verify(claimService).getClaims(user);
+        verify(claimService).getClaims(eq(user), isNull());
     }
 
     @Test
@@ -192,6 +195,7 @@ class ClaimControllerMVCTest {
         User user = createDummyUser(UserRole.POLICYHOLDER);
 
         when(userService.getById(user.getId())).thenReturn(user);
+        when(claimService.createClaim(any(ClaimSubmissionRequest.class), eq(user))).thenReturn(new ClaimSubmission(null, ClaimAdmission.ACCEPTED));
 
         mockMvc.perform(post("/claims/new-claim")
                         .with(user(auth(user)))
@@ -207,6 +211,45 @@ class ClaimControllerMVCTest {
         verify(claimService).createClaim(any(ClaimSubmissionRequest.class), eq(user));
     }
 
+    @Test
+    void submitClaim_backlogAboveSoftLimit_redirectsWithDelayNotice() throws Exception {
+
+        User user = createDummyUser(UserRole.POLICYHOLDER);
+
+        when(userService.getById(user.getId())).thenReturn(user);
+        when(claimService.createClaim(any(ClaimSubmissionRequest.class), eq(user))).thenReturn(new ClaimSubmission(null, ClaimAdmission.DELAYED));
+
+        mockMvc.perform(post("/claims/new-claim")
+                        .with(user(auth(user)))
+                        .with(csrf())
+                        .param("claimType", "MEDICATION_EXPENSES")
+                        .param("requestedAmount", "10")
+                        .param("attachedDocument", "medication.pdf")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/claims?delayed"));
+    }
+
+    @Test
+    void submitClaim_backlogAboveHardLimit_asksToRetryLater() throws Exception {
+
+        User user = createDummyUser(UserRole.POLICYHOLDER);
+
+        when(userService.getById(user.getId())).thenReturn(user);
+        when(claimService.createClaim(any(ClaimSubmissionRequest.class), eq(user))).thenThrow(new ClaimSubmissionRejectedException("Try again later"));
+
+        mockMvc.perform(post("/claims/new-claim")
+                        .with(user(auth(user)))
+                        .with(csrf())
+                        .param("claimType", "MEDICATION_EXPENSES")
+                        .param("requestedAmount", "10")
+                        .param("attachedDocument", "medication.pdf")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(view().name("try-again-later"));
+    }
+
     @Test
     void submitClaim_withValidationErrors_rendersFormAgain() throws Exception {
 
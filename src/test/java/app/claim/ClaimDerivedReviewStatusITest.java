@@ -0,0 +1,117 @@
+package app.claim;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimService;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.scheduler.ClaimStatusChangeScheduler;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.utility.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"claims.evaluation.derive-review-status=true", "claims.evaluation.review-cooling-period=PT1H"})
+@Transactional
+class ClaimDerivedReviewStatusITest {
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .username("derived")
+                .password("Password1@")
+                .email("derived@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policyRepository.findByPolicyType(PolicyType.STANDARD))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+    }
+
+    private Claim createOpenClaim(User user, LocalDateTime createdOn) {
+        return claimRepository.save(Claim.builder()
+                .user(user)
+                .claimType(ClaimType.MEDICATION_EXPENSES)
+                .claimStatus(ClaimStatus.OPEN)
+                .requestedAmount(Money.of(10))
+                .attachedDocument("medication.pdf")
+                .createdOn(createdOn)
+                .updatedOn(createdOn)
+                .deleted(false)
+                .build());
+    }
+
+    @Test
+    void statusSweep_ShouldNotBeScheduled() {
+
+        assertTrue(applicationContext.getBeansOfType(ClaimStatusChangeScheduler.class).isEmpty());
+    }
+
+    @Test
+    void getAllClaimsByStatus_ShouldDeriveReviewEligibilityFromCreationTime() {
+
+        User user = createUser();
+        Claim cooled = createOpenClaim(user, LocalDateTime.now().minusHours(2));
+        Claim fresh = createOpenClaim(user, LocalDateTime.now().minusMinutes(10));
+
+        List<Claim> forReview = claimService.getAllClaimsByStatus(ClaimStatus.FOR_REVIEW);
+        List<Claim> open = claimService.getAllClaimsByStatus(ClaimStatus.OPEN);
+
+        assertTrue(forReview.stream().anyMatch(claim -> claim.getId().equals(cooled.getId())));
+        assertFalse(forReview.stream().anyMatch(claim -> claim.getId().equals(fresh.getId())));
+        assertTrue(open.stream().anyMatch(claim -> claim.getId().equals(fresh.getId())));
+        assertFalse(open.stream().anyMatch(claim -> claim.getId().equals(cooled.getId())));
+
+        LocalDateTime reviewCutoff = claimService.getReviewCutoff();
+        assertEquals(ClaimStatus.FOR_REVIEW, cooled.getEffectiveStatus(reviewCutoff));
+        assertEquals(ClaimStatus.OPEN, fresh.getEffectiveStatus(reviewCutoff));
+    }
+
+    @Test
+    void evaluateClaims_ShouldEvaluateOpenClaimsPastTheCoolingPeriod() {
+
+        User user = createUser();
+        Claim cooled = createOpenClaim(user, LocalDateTime.now().minusHours(2));
+        Claim fresh = createOpenClaim(user, LocalDateTime.now().minusMinutes(10));
+
+        claimService.evaluateClaims();
+
+        assertEquals(ClaimStatus.APPROVED, claimRepository.findById(cooled.getId()).orElseThrow().getClaimStatus());
+        assertEquals(ClaimStatus.OPEN, claimRepository.findById(fresh.getId()).orElseThrow().getClaimStatus());
+    }
+}
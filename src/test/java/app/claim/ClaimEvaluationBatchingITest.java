@@ -0,0 +1,120 @@
+package app.claim;
+
+import app.SqlStatementCounter;
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimService;
+import app.policy.model.Policy;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.repository.TransactionRepository;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.utility.Money;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.Registration.class)
+@SpringBootTest(properties = {"claims.evaluation.chunk-size=100", "spring.jpa.properties.hibernate.jdbc.batch_size=10"})
+@Transactional
+class ClaimEvaluationBatchingITest {
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User createUser(String username, Policy policy) {
+
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("Password1@")
+                .email(username + "@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policy)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void evaluateClaims_ShouldWriteLedgerClaimsAndUsersInJdbcBatches() {
+
+        Policy policy = policyRepository.save(Policy.builder()
+                .policyType(PolicyType.STANDARD)
+                .limitForMedications(BigDecimal.valueOf(100))
+                .limitForHospitalTreatment(BigDecimal.valueOf(1000))
+                .limitForSurgery(BigDecimal.valueOf(1500))
+                .limitForDentalService(BigDecimal.valueOf(500))
+                .policyPrice(BigDecimal.TEN)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+
+        User first = createUser("batching1", policy);
+        User second = createUser("batching2", policy);
+        LocalDateTime createdOn = LocalDateTime.now().minusHours(1);
+
+        for (int i = 0; i < 40; i++) {
+            claimRepository.save(Claim.builder()
+                    .user(i % 2 == 0 ? first : second)
+                    .claimType(ClaimType.MEDICATION_EXPENSES)
+                    .claimStatus(ClaimStatus.FOR_REVIEW)
+                    .requestedAmount(Money.of(10))
+                    .attachedDocument("medication.pdf")
+                    .createdOn(createdOn.plusSeconds(i))
+                    .updatedOn(createdOn)
+                    .deleted(false)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.reset();
+
+        claimService.evaluateClaims();
+
+        assertEquals(4, SqlStatementCounter.count("insert", "transaction"));
+        // one lease statement for the chunk, then the decisions in batches of 10
+        assertEquals(5, SqlStatementCounter.count("update", "claim"));
+        // one aggregated credit per user
+        assertEquals(2, SqlStatementCounter.count("update", "user"));
+        assertEquals(40, transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(first).size()
+                + transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(second).size());
+        assertEquals(0, BigDecimal.valueOf(200).compareTo(userRepository.findById(first.getId()).orElseThrow().getAccountBalance()));
+        assertEquals(0, BigDecimal.valueOf(200).compareTo(userRepository.findById(second.getId()).orElseThrow().getAccountBalance()));
+    }
+}
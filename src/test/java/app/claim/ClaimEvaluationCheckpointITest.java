@@ -0,0 +1,127 @@
+package app.claim;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimEvaluationCheckpoint;
+import app.claim.model.ClaimEvaluationProgress;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.repository.ClaimEvaluationCheckpointRepository;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimEvaluationProgressEndpoint;
+import app.claim.service.ClaimService;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.utility.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "claims.evaluation.chunk-size=4")
+@Transactional
+class ClaimEvaluationCheckpointITest {
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ClaimEvaluationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ClaimEvaluationProgressEndpoint progressEndpoint;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    private User createUserWithClaims(int claims) {
+        User user = userRepository.save(User.builder()
+                .username("checkpoint")
+                .password("Password1@")
+                .email("checkpoint@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policyRepository.findByPolicyType(PolicyType.STANDARD))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+
+        LocalDateTime createdOn = LocalDateTime.now().minusHours(1);
+        for (int i = 0; i < claims; i++) {
+            claimRepository.save(Claim.builder()
+                    .user(user)
+                    .claimType(ClaimType.MEDICATION_EXPENSES)
+                    .claimStatus(ClaimStatus.FOR_REVIEW)
+                    .requestedAmount(Money.of(1))
+                    .attachedDocument("medication.pdf")
+                    .createdOn(createdOn.plusSeconds(i))
+                    .updatedOn(createdOn)
+                    .deleted(false)
+                    .build());
+        }
+
+        return user;
+    }
+
+    @Test
+    void evaluateClaims_ShouldCheckpointEveryChunkAndCompleteTheRun() {
+
+        createUserWithClaims(10);
+
+        claimService.evaluateClaims();
+
+        ClaimEvaluationProgress progress = progressEndpoint.progress();
+        assertTrue(progress.isCompleted());
+        assertEquals(10, progress.getProcessed());
+        assertEquals(0, progress.getRemaining());
+        assertEquals(0, progress.getRestarts());
+        assertNull(progress.getEta());
+
+        assertEquals(0, claimRepository.countByClaimStatus(ClaimStatus.FOR_REVIEW));
+    }
+
+    @Test
+    void evaluateClaims_InterruptedRun_ShouldBeResumedWithItsCounts() {
+
+        LocalDateTime startedOn = LocalDateTime.now().minusMinutes(30);
+        UUID jobId = checkpointRepository.save(ClaimEvaluationCheckpoint.builder()
+                .startedOn(startedOn)
+                .resumedOn(startedOn)
+                .updatedOn(startedOn.plusMinutes(1))
+                .processed(6)
+                .remaining(5)
+                .build()).getId();
+        createUserWithClaims(5);
+
+        claimService.evaluateClaims();
+
+        ClaimEvaluationCheckpoint checkpoint = checkpointRepository.findById(jobId).orElseThrow();
+        assertNotNull(checkpoint.getCompletedOn());
+        assertEquals(1, checkpoint.getRestarts());
+        assertEquals(11, checkpoint.getProcessed());
+        assertEquals(6, checkpoint.getProcessedOnResume());
+        assertEquals(0, checkpoint.getRemaining());
+        assertFalse(checkpointRepository.existsByCompletedOnIsNull());
+    }
+}
@@ -0,0 +1,141 @@
+package app.claim;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimService;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionStatus;
+import app.transaction.repository.TransactionRepository;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.utility.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Leases expire immediately here, so every evaluator takes every claim and only the claim version check keeps the
+ * decisions from being applied twice.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"claims.evaluation.chunk-size=5", "claims.evaluation.lease-duration=-PT1S"})
+class ClaimEvaluationConcurrencyITest {
+
+    private static final int CLAIMS = 30;
+    private static final int EVALUATORS = 4;
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<User> users = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        users.forEach(user -> transactionRepository.deleteAll(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user)));
+        users.forEach(user -> claimRepository.deleteAll(claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user)));
+        userRepository.deleteAllById(users.stream().map(User::getId).toList());
+    }
+
+    @Test
+    void evaluateClaims_ConcurrentEvaluators_ShouldPayEveryClaimExactlyOnce() {
+
+        LocalDateTime createdOn = LocalDateTime.now().minusHours(1);
+
+        for (int i = 0; i < CLAIMS; i++) {
+            User user = userRepository.save(User.builder()
+                    .username("stress" + i)
+                    .password("Password1@")
+                    .email("stress" + i + "@test.com")
+                    .firstName("John")
+                    .lastName("Doe")
+                    .role(UserRole.POLICYHOLDER)
+                    .permission("not_delete")
+                    .companyName(CompanyName.NEURO_NEST)
+                    .accountBalance(BigDecimal.ZERO)
+                    .policy(policyRepository.findByPolicyType(PolicyType.STANDARD))
+                    .createdOn(LocalDateTime.now())
+                    .updatedOn(LocalDateTime.now())
+                    .build());
+            users.add(user);
+
+            claimRepository.save(Claim.builder()
+                    .user(user)
+                    .claimType(ClaimType.MEDICATION_EXPENSES)
+                    .claimStatus(ClaimStatus.FOR_REVIEW)
+                    .requestedAmount(Money.of(10))
+                    .attachedDocument("medication.pdf")
+                    .createdOn(createdOn.plusSeconds(i))
+                    .updatedOn(createdOn)
+                    .deleted(false)
+                    .build());
+        }
+
+        long decisionsBefore = meterRegistry.timer("claims.time.to.decision").count();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> evaluators = IntStream.range(0, EVALUATORS)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    await(start);
+                    claimService.evaluateClaims();
+                }))
+                .toList();
+
+        start.countDown();
+        CompletableFuture.allOf(evaluators.toArray(CompletableFuture[]::new)).join();
+
+        assertTrue(claimRepository.findAllByClaimStatus(ClaimStatus.FOR_REVIEW).isEmpty());
+        // chunks rolled back on a conflict record no decisions, so each claim is timed once
+        assertEquals(decisionsBefore + CLAIMS, meterRegistry.timer("claims.time.to.decision").count());
+
+        for (User user : users) {
+            List<Transaction> transactions = transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user);
+            assertEquals(1, transactions.size());
+            assertEquals(TransactionStatus.COMPLETED, transactions.get(0).getTransactionStatus());
+            assertEquals(0, BigDecimal.TEN.compareTo(userRepository.findById(user.getId()).orElseThrow().getAccountBalance()));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,14 +1,24 @@
 package app.claim;
 
+import app.claim.service.ClaimEvaluationCheckpointService;
 import app.claim.service.ClaimService;
 import app.scheduler.ClaimEvaluationScheduler;
+import app.scheduler.service.JobLeaseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ClaimEvaluationSchedulerUTest {
@@ -16,9 +26,23 @@ class ClaimEvaluationSchedulerUTest {
     @Mock
     private ClaimService claimService;
 
-    @InjectMocks
+    @Mock
+    private ClaimEvaluationCheckpointService checkpointService;
+
+    @Mock
+    private JobLeaseService jobLeaseService;
+
+    private MeterRegistry meterRegistry;
+
     private ClaimEvaluationScheduler scheduler;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(jobLeaseService.tryAcquire(anyString())).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new ClaimEvaluationScheduler(claimService, checkpointService, jobLeaseService, meterRegistry);
+    }
+
     @Test
     void autoEvaluateClaims_ShouldCallClaimService() {
 
@@ -26,4 +50,43 @@ class ClaimEvaluationSchedulerUTest {
 
         verify(claimService).evaluateClaims();
     }
+
+    @Test
+    void autoEvaluateClaims_ShouldReportLastStart() {
+
+        scheduler.autoEvaluateClaims();
+
+        assertTrue(meterRegistry.get("scheduler.job.last.start").tag("job", "claim-evaluation").gauge().value() > 0);
+    }
+
+    @Test
+    void resumeInterruptedEvaluation_InterruptedRun_ShouldEvaluate() {
+
+        when(checkpointService.hasInterruptedRun()).thenReturn(true);
+
+        scheduler.resumeInterruptedEvaluation();
+
+        verify(claimService).evaluateClaims();
+    }
+
+    @Test
+    void resumeInterruptedEvaluation_NoInterruptedRun_ShouldNotEvaluate() {
+
+        when(checkpointService.hasInterruptedRun()).thenReturn(false);
+
+        scheduler.resumeInterruptedEvaluation();
+
+        verify(claimService, never()).evaluateClaims();
+    }
+
+    @Test
+    void autoEvaluateClaims_AnotherNodeIsLeader_ShouldNotEvaluate() {
+
+        when(jobLeaseService.tryAcquire("claim-evaluation")).thenReturn(false);
+
+        scheduler.autoEvaluateClaims();
+
+        verify(claimService, never()).evaluateClaims();
+        assertEquals(0, meterRegistry.get("scheduler.job.leader").tag("job", "claim-evaluation").gauge().value());
+    }
 }
@@ -0,0 +1,114 @@
+package app.claim;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimService;
+import app.policy.model.Policy;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.repository.TransactionRepository;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.web.dto.ClaimSubmissionRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "claims.intake.enabled=true")
+class ClaimIntakeITest {
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private Policy policy;
+
+    @AfterEach
+    void cleanUp() {
+        transactionRepository.deleteAll(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user));
+        claimRepository.deleteAll(claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user));
+        userRepository.deleteById(user.getId());
+        policyRepository.delete(policy);
+    }
+
+    @Test
+    void createClaim_IntakeEnabled_ShouldDecideClaimWithinSeconds() throws InterruptedException {
+
+        policy = policyRepository.save(Policy.builder()
+                .policyType(PolicyType.STANDARD)
+                .limitForMedications(BigDecimal.valueOf(100))
+                .limitForHospitalTreatment(BigDecimal.valueOf(1000))
+                .limitForSurgery(BigDecimal.valueOf(1500))
+                .limitForDentalService(BigDecimal.valueOf(500))
+                .policyPrice(BigDecimal.TEN)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+
+        user = userRepository.save(User.builder()
+                .username("intake")
+                .password("Password1@")
+                .email("intake@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policy)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+
+        long decisionsBefore = meterRegistry.timer("claims.time.to.decision").count();
+
+        Claim approved = claimService.createClaim(ClaimSubmissionRequest.builder()
+                .claimType(ClaimType.MEDICATION_EXPENSES)
+                .requestedAmount(BigDecimal.valueOf(40))
+                .attachedDocument("medication.jpg")
+                .build(), user).getClaim();
+        Claim rejected = claimService.createClaim(ClaimSubmissionRequest.builder()
+                .claimType(ClaimType.SURGERY_EXPENSES)
+                .requestedAmount(BigDecimal.valueOf(40))
+                .attachedDocument("medication.jpg")
+                .build(), user).getClaim();
+
+        for (int i = 0; i < 100 && !claimRepository.findAllByClaimStatus(ClaimStatus.OPEN).isEmpty(); i++) {
+            Thread.sleep(100);
+        }
+
+        assertEquals(ClaimStatus.APPROVED, claimRepository.findById(approved.getId()).orElseThrow().getClaimStatus());
+        assertEquals(ClaimStatus.REJECTED, claimRepository.findById(rejected.getId()).orElseThrow().getClaimStatus());
+        assertEquals(0, BigDecimal.valueOf(40).compareTo(userRepository.findById(user.getId()).orElseThrow().getAccountBalance()));
+        assertEquals(decisionsBefore + 2, meterRegistry.timer("claims.time.to.decision").count());
+        assertTrue(claimRepository.findAllByClaimStatus(ClaimStatus.FOR_REVIEW).isEmpty());
+    }
+}
@@ -0,0 +1,148 @@
+package app.claim;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.model.ClaimEvaluationProgress;
+import app.claim.repository.ClaimEvaluationCheckpointPartitionRepository;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimEvaluationProgressEndpoint;
+import app.claim.service.ClaimService;
+import app.policy.model.Policy;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.model.TransactionStatus;
+import app.transaction.repository.TransactionRepository;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.utility.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"claims.evaluation.workers=4", "claims.evaluation.chunk-size=5"})
+class ClaimParallelEvaluationITest {
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ClaimEvaluationProgressEndpoint progressEndpoint;
+
+    @Autowired
+    private ClaimEvaluationCheckpointPartitionRepository checkpointPartitionRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private Policy policy;
+
+    @AfterEach
+    void cleanUp() {
+        users.forEach(user -> transactionRepository.deleteAll(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user)));
+        users.forEach(user -> claimRepository.deleteAll(claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user)));
+        userRepository.deleteAllById(users.stream().map(User::getId).toList());
+        policyRepository.delete(policy);
+    }
+
+    private User createUser(String username) {
+
+        User user = User.builder()
+                .username(username)
+                .password("Password1@")
+                .email(username + "@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policy)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build();
+
+        users.add(user);
+
+        return userRepository.save(user);
+    }
+
+    @Test
+    void evaluateClaims_ParallelMode_ShouldEvaluateEveryClaimOfEveryUserOnce() {
+
+        policy = policyRepository.save(Policy.builder()
+                .policyType(PolicyType.STANDARD)
+                .limitForMedications(BigDecimal.valueOf(100))
+                .limitForHospitalTreatment(BigDecimal.valueOf(1000))
+                .limitForSurgery(BigDecimal.valueOf(1500))
+                .limitForDentalService(BigDecimal.valueOf(500))
+                .policyPrice(BigDecimal.TEN)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+
+        LocalDateTime createdOn = LocalDateTime.now().minusHours(1);
+
+        for (int u = 0; u < 6; u++) {
+            User user = createUser("parallel" + u);
+
+            for (int c = 0; c < 4; c++) {
+                claimRepository.save(Claim.builder()
+                        .user(user)
+                        .claimType(ClaimType.MEDICATION_EXPENSES)
+                        .claimStatus(ClaimStatus.FOR_REVIEW)
+                        .requestedAmount(c == 3 ? Money.of(500) : Money.of(10))
+                        .attachedDocument("medication.pdf")
+                        .description("desc")
+                        .createdOn(createdOn.plusSeconds(c))
+                        .updatedOn(createdOn)
+                        .deleted(false)
+                        .build());
+            }
+        }
+
+        claimService.evaluateClaims();
+
+        assertTrue(claimRepository.findAllByClaimStatus(ClaimStatus.FOR_REVIEW).isEmpty());
+
+        // every partition advanced its own checkpoint row, folded into the run when it completed
+        ClaimEvaluationProgress progress = progressEndpoint.progress();
+        assertTrue(progress.isCompleted());
+        assertEquals(24, progress.getProcessed());
+        assertEquals(0, progress.getRemaining());
+        assertEquals(0, checkpointPartitionRepository.count());
+
+        for (User user : users) {
+            User evaluated = userRepository.findById(user.getId()).orElseThrow();
+            assertEquals(0, BigDecimal.valueOf(30).compareTo(evaluated.getAccountBalance()));
+
+            long completed = transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user).stream()
+                    .filter(transaction -> transaction.getTransactionStatus() == TransactionStatus.COMPLETED)
+                    .count();
+            assertEquals(3, completed);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package app.claim;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.rule.AttachedDocumentRule;
+import app.claim.rule.ClaimRuleEngine;
+import app.claim.rule.PositiveAmountRule;
+import app.policy.model.Policy;
+import app.policy.model.PolicyType;
+import app.utility.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-claim decision cost of the previous inline checks against the compiled rule table.
+ * Run with {@code mvn test -Dtest=ClaimRuleEngineBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ClaimRuleEngineBenchmark {
+
+    private static final int CLAIMS = 10_000;
+    private static final int ROUNDS = 300;
+
+    private final ClaimRuleEngine claimRuleEngine = new ClaimRuleEngine(List.of(new PositiveAmountRule(), new AttachedDocumentRule()));
+
+    private static boolean legacyApproves(Claim claim, Policy policy) {
+        if (claim.getRequestedAmount().signum() <= 0) {
+            return false;
+        }
+
+        String doc = claim.getAttachedDocument().toLowerCase();
+        boolean invalidDoc =
+                (claim.getClaimType() == ClaimType.MEDICATION_EXPENSES && !doc.contains("medication")) ||
+                        (claim.getClaimType() == ClaimType.HOSPITAL_TREATMENT_EXPENSES && !doc.contains("hospital_treatment")) ||
+                        (claim.getClaimType() == ClaimType.SURGERY_EXPENSES && !doc.contains("surgery")) ||
+                        (claim.getClaimType() == ClaimType.DENTAL_SERVICE_EXPENSES && !doc.contains("dental_service"));
+
+        if (invalidDoc) {
+            return false;
+        }
+
+        BigDecimal limit = switch (claim.getClaimType()) {
+            case MEDICATION_EXPENSES -> policy.getLimitForMedications();
+            case HOSPITAL_TREATMENT_EXPENSES -> policy.getLimitForHospitalTreatment();
+            case SURGERY_EXPENSES -> policy.getLimitForSurgery();
+            case DENTAL_SERVICE_EXPENSES -> policy.getLimitForDentalService();
+        };
+
+        return claim.getRequestedAmount().compareTo(Money.of(limit)) <= 0;
+    }
+
+    @Test
+    void comparePerClaimDecisionCost() {
+
+        Policy policy = Policy.builder()
+                .id(UUID.randomUUID())
+                .policyType(PolicyType.STANDARD)
+                .limitForMedications(BigDecimal.valueOf(100))
+                .limitForHospitalTreatment(BigDecimal.valueOf(1000))
+                .limitForSurgery(BigDecimal.valueOf(1500))
+                .limitForDentalService(BigDecimal.valueOf(500))
+                .policyPrice(BigDecimal.valueOf(200))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build();
+
+        ClaimType[] claimTypes = ClaimType.values();
+        String[] documents = {"medication.jpg", "hospital_treatment.png", "Surgery_Invoice.jpg", "dental_service.jpg"};
+        Claim[] claims = new Claim[CLAIMS];
+
+        for (int i = 0; i < CLAIMS; i++) {
+            claims[i] = Claim.builder()
+                    .claimType(claimTypes[i % claimTypes.length])
+                    .claimStatus(ClaimStatus.FOR_REVIEW)
+                    .requestedAmount(Money.of(i % 1000))
+                    .attachedDocument(documents[(i + (i % 5 == 0 ? 1 : 0)) % documents.length])
+                    .build();
+        }
+
+        long legacyNanos = Long.MAX_VALUE;
+        long compiledNanos = Long.MAX_VALUE;
+        int legacyApproved = 0;
+        int compiledApproved = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            legacyApproved = 0;
+            for (Claim claim : claims) {
+                if (legacyApproves(claim, policy)) {
+                    legacyApproved++;
+                }
+            }
+            legacyNanos = Math.min(legacyNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            compiledApproved = 0;
+            for (Claim claim : claims) {
+                if (claimRuleEngine.rulesFor(policy).approves(claim)) {
+                    compiledApproved++;
+                }
+            }
+            compiledNanos = Math.min(compiledNanos, System.nanoTime() - start);
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (Claim claim : claims) {
+            legacyApproves(claim, policy);
+        }
+        long legacyBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (Claim claim : claims) {
+            claimRuleEngine.rulesFor(policy).approves(claim);
+        }
+        long compiledBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("Claim decision (best of %d rounds, %d claims): legacy %.1f ns/claim %.1f B/claim, compiled rule table %.1f ns/claim %.1f B/claim, approved %d/%d%n",
+                ROUNDS, CLAIMS,
+                (double) legacyNanos / CLAIMS, (double) legacyBytes / CLAIMS,
+                (double) compiledNanos / CLAIMS, (double) compiledBytes / CLAIMS,
+                legacyApproved, compiledApproved);
+    }
+}
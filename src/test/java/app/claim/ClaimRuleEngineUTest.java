@@ -0,0 +1,120 @@
+package app.claim;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.rule.AttachedDocumentRule;
+import app.claim.rule.ClaimRuleEngine;
+import app.claim.rule.ClaimRuleTable;
+import app.claim.rule.PositiveAmountRule;
+import app.policy.model.Policy;
+import app.policy.model.PolicyType;
+import app.utility.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClaimRuleEngineUTest {
+
+    private final ClaimRuleEngine claimRuleEngine = new ClaimRuleEngine(List.of(new PositiveAmountRule(), new AttachedDocumentRule()));
+
+    private Policy buildPolicy() {
+        return Policy.builder()
+                .id(UUID.randomUUID())
+                .policyType(PolicyType.STANDARD)
+                .limitForMedications(BigDecimal.valueOf(100))
+                .limitForHospitalTreatment(BigDecimal.valueOf(1000))
+                .limitForSurgery(BigDecimal.valueOf(1500))
+                .limitForDentalService(BigDecimal.valueOf(500))
+                .policyPrice(BigDecimal.valueOf(200))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build();
+    }
+
+    private Claim buildClaim(ClaimType claimType, BigDecimal amount, String document) {
+        return Claim.builder()
+                .id(UUID.randomUUID())
+                .claimType(claimType)
+                .claimStatus(ClaimStatus.FOR_REVIEW)
+                .requestedAmount(Money.of(amount))
+                .attachedDocument(document)
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void approves_ClaimWithinLimitAndMatchingDocument_ShouldApprove() {
+
+        ClaimRuleTable rules = claimRuleEngine.rulesFor(buildPolicy());
+
+        assertTrue(rules.approves(buildClaim(ClaimType.MEDICATION_EXPENSES, BigDecimal.valueOf(100), "MEDICATION.jpg")));
+        assertTrue(rules.approves(buildClaim(ClaimType.SURGERY_EXPENSES, BigDecimal.valueOf(1500), "surgery.jpg")));
+    }
+
+    @Test
+    void approves_ClaimOverLimit_ShouldReject() {
+
+        ClaimRuleTable rules = claimRuleEngine.rulesFor(buildPolicy());
+
+        assertFalse(rules.approves(buildClaim(ClaimType.DENTAL_SERVICE_EXPENSES, BigDecimal.valueOf(501), "dental_service.jpg")));
+    }
+
+    @Test
+    void approves_LimitWithSubCentPrecision_ShouldJudgeByTheWholeCents() {
+
+        Policy policy = buildPolicy();
+        policy.setLimitForMedications(new BigDecimal("100.005"));
+
+        ClaimRuleTable rules = claimRuleEngine.rulesFor(policy);
+
+        assertTrue(rules.approves(buildClaim(ClaimType.MEDICATION_EXPENSES, new BigDecimal("100.00"), "medication.jpg")));
+        assertFalse(rules.approves(buildClaim(ClaimType.MEDICATION_EXPENSES, new BigDecimal("100.01"), "medication.jpg")));
+        assertTrue(rules.approves(buildClaim(ClaimType.SURGERY_EXPENSES, BigDecimal.valueOf(1500), "surgery.jpg")));
+    }
+
+    @Test
+    void approves_NonPositiveAmount_ShouldReject() {
+
+        ClaimRuleTable rules = claimRuleEngine.rulesFor(buildPolicy());
+
+        assertFalse(rules.approves(buildClaim(ClaimType.MEDICATION_EXPENSES, BigDecimal.ZERO, "medication.jpg")));
+        assertFalse(rules.approves(buildClaim(ClaimType.MEDICATION_EXPENSES, BigDecimal.valueOf(-5), "medication.jpg")));
+    }
+
+    @Test
+    void approves_DocumentOfAnotherType_ShouldReject() {
+
+        ClaimRuleTable rules = claimRuleEngine.rulesFor(buildPolicy());
+
+        assertFalse(rules.approves(buildClaim(ClaimType.HOSPITAL_TREATMENT_EXPENSES, BigDecimal.TEN, "surgery.jpg")));
+    }
+
+    @Test
+    void rulesFor_SamePolicySnapshot_ShouldReuseCompiledTable() {
+
+        Policy policy = buildPolicy();
+
+        assertSame(claimRuleEngine.rulesFor(policy), claimRuleEngine.rulesFor(policy));
+    }
+
+    @Test
+    void rulesFor_UpdatedPolicy_ShouldRecompileWithNewLimits() {
+
+        Policy policy = buildPolicy();
+        Claim claim = buildClaim(ClaimType.MEDICATION_EXPENSES, BigDecimal.valueOf(150), "medication.jpg");
+
+        assertFalse(claimRuleEngine.rulesFor(policy).approves(claim));
+
+        policy.setLimitForMedications(BigDecimal.valueOf(200));
+        policy.setUpdatedOn(policy.getUpdatedOn().plusSeconds(1));
+
+        assertTrue(claimRuleEngine.rulesFor(policy).approves(claim));
+    }
+}
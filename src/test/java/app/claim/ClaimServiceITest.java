@@ -10,6 +10,8 @@ import app.user.model.*;
 import app.user.repository.UserRepository;
 import app.user.service.UserService;
 import app.transaction.service.TransactionService;
+import app.utility.KeysetPage;
+import app.utility.Money;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -19,12 +21,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @ActiveProfiles("test")
-@SpringBootTest
+@SpringBootTest(properties = {"claims.evaluation.chunk-size=2", "listing.page-size=2"})
 @Transactional
 class ClaimServiceITest {
 
@@ -87,7 +91,7 @@ class ClaimServiceITest {
                 .user(user)
                 .claimType(ClaimType.MEDICATION_EXPENSES)
                 .claimStatus(ClaimStatus.OPEN)
-                .requestedAmount(BigDecimal.valueOf(50))
+                .requestedAmount(Money.of(50))
                 .attachedDocument("medication.pdf")
                 .description("desc")
                 .createdOn(LocalDateTime.now())
@@ -98,7 +102,9 @@ class ClaimServiceITest {
 
         LocalDateTime before = LocalDateTime.now();
 
-        claimService.moveOpenClaimsToReview();
+        int movedClaims = claimService.moveOpenClaimsToReview();
+
+        assertEquals(1, movedClaims);
 
         List<Claim> updatedClaims = claimRepository.findAll();
         assertEquals(1, updatedClaims.size());
@@ -117,7 +123,7 @@ class ClaimServiceITest {
                 .user(user)
                 .claimType(ClaimType.MEDICATION_EXPENSES)
                 .claimStatus(ClaimStatus.FOR_REVIEW)
-                .requestedAmount(BigDecimal.valueOf(50))
+                .requestedAmount(Money.of(50))
                 .attachedDocument("medication_receipt.pdf")
                 .description("desc")
                 .createdOn(LocalDateTime.now())
@@ -128,7 +134,7 @@ class ClaimServiceITest {
                 .user(user)
                 .claimType(ClaimType.MEDICATION_EXPENSES)
                 .claimStatus(ClaimStatus.FOR_REVIEW)
-                .requestedAmount(BigDecimal.valueOf(200))
+                .requestedAmount(Money.of(200))
                 .attachedDocument("medication_receipt.pdf")
                 .description("desc")
                 .createdOn(LocalDateTime.now())
@@ -142,15 +148,74 @@ class ClaimServiceITest {
 
         List<Claim> allClaims = claimRepository.findAll();
 
-        Claim approved = allClaims.stream().filter(c -> c.getRequestedAmount().equals(BigDecimal.valueOf(50))).findFirst().orElseThrow();
-        Claim rejected = allClaims.stream().filter(c -> c.getRequestedAmount().equals(BigDecimal.valueOf(200))).findFirst().orElseThrow();
+        Claim approved = allClaims.stream().filter(c -> c.getRequestedAmount().equals(Money.of(50))).findFirst().orElseThrow();
+        Claim rejected = allClaims.stream().filter(c -> c.getRequestedAmount().equals(Money.of(200))).findFirst().orElseThrow();
 
         assertEquals(ClaimStatus.APPROVED, approved.getClaimStatus());
         assertEquals(ClaimStatus.REJECTED, rejected.getClaimStatus());
 
-        assertEquals(BigDecimal.valueOf(550), userRepository.findById(user.getId()).get().getAccountBalance());
+        assertEquals(0, BigDecimal.valueOf(550).compareTo(userRepository.findById(user.getId()).get().getAccountBalance()));
 
         assertTrue(ChronoUnit.SECONDS.between(before, approved.getUpdatedOn()) < 10);
         assertTrue(ChronoUnit.SECONDS.between(before, rejected.getUpdatedOn()) < 10);
     }
+
+    @Test
+    void evaluateClaims_BacklogLargerThanChunk_ShouldEvaluateEveryChunkOnce() {
+
+        User user = createUserWithPolicy();
+        LocalDateTime createdOn = LocalDateTime.now().minusHours(1);
+
+        for (int i = 0; i < 5; i++) {
+            claimRepository.save(Claim.builder()
+                    .user(user)
+                    .claimType(ClaimType.MEDICATION_EXPENSES)
+                    .claimStatus(ClaimStatus.FOR_REVIEW)
+                    .requestedAmount(Money.of(10))
+                    .attachedDocument("medication.pdf")
+                    .description("desc")
+                    .createdOn(createdOn.plusMinutes(i % 2))
+                    .updatedOn(createdOn)
+                    .build());
+        }
+
+        claimService.evaluateClaims();
+        claimService.evaluateClaims();
+
+        assertTrue(claimRepository.findAllByClaimStatus(ClaimStatus.FOR_REVIEW).isEmpty());
+        assertEquals(5, claimRepository.findAllByClaimStatus(ClaimStatus.APPROVED).size());
+        assertEquals(0, BigDecimal.valueOf(550).compareTo(userRepository.findById(user.getId()).get().getAccountBalance()));
+    }
+
+    @Test
+    void getClaims_ShouldWalkEveryClaimOnceAcrossPages() {
+
+        User user = createUserWithPolicy();
+        LocalDateTime updatedOn = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusHours(1);
+
+        for (int i = 0; i < 5; i++) {
+            claimRepository.save(Claim.builder()
+                    .user(user)
+                    .claimType(ClaimType.MEDICATION_EXPENSES)
+                    .claimStatus(ClaimStatus.OPEN)
+                    .requestedAmount(Money.of(10))
+                    .attachedDocument("medication.pdf")
+                    .createdOn(updatedOn)
+                    .updatedOn(updatedOn.plusMinutes(i / 3))
+                    .build());
+        }
+
+        List<UUID> seen = new ArrayList<>();
+        KeysetPage<Claim> page = claimService.getClaims(user, null);
+        page.getContent().forEach(claim -> seen.add(claim.getId()));
+
+        while (page.hasNext() && seen.size() <= 5) {
+            page = claimService.getClaims(user, page.getNextCursor());
+            assertTrue(page.getContent().size() <= 2);
+            page.getContent().forEach(claim -> seen.add(claim.getId()));
+        }
+
+        assertEquals(5, seen.size());
+        assertEquals(5, seen.stream().distinct().count());
+    }
 }
@@ -1,20 +1,28 @@
 package app.claim;
 
+import app.activity.service.UserActivityService;
+import app.claim.intake.ClaimIntakeQueue;
 import app.claim.model.*;
 import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimBacklog;
 import app.claim.service.ClaimService;
+import app.configuration.ClaimEvaluationProperties;
+import app.configuration.ListingProperties;
 import app.exception.ClaimNotFoundException;
+import app.exception.ClaimSubmissionRejectedException;
 import app.exception.DomainException;
 import app.policy.model.Policy;
 import app.policy.model.PolicyType;
 import app.transaction.service.TransactionService;
 import app.user.model.*;
 import app.user.service.UserService;
+import app.utility.Money;
 import app.web.dto.ClaimSubmissionRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.*;
@@ -35,6 +43,21 @@ class ClaimServiceUTest {
     @Mock
     private TransactionService transactionService;
 
+    @Mock
+    private ClaimIntakeQueue claimIntakeQueue;
+
+    @Mock
+    private ClaimBacklog claimBacklog;
+
+    @Mock
+    private UserActivityService userActivityService;
+
+    @Spy
+    private ListingProperties listingProperties = new ListingProperties();
+
+    @Spy
+    private ClaimEvaluationProperties claimEvaluationProperties = new ClaimEvaluationProperties();
+
     @InjectMocks
     private ClaimService claimService;
 
@@ -73,7 +96,7 @@ class ClaimServiceUTest {
                 .id(UUID.randomUUID())
                 .claimType(ClaimType.MEDICATION_EXPENSES)
                 .claimStatus(ClaimStatus.OPEN)
-                .requestedAmount(BigDecimal.TEN)
+                .requestedAmount(Money.of(10))
                 .attachedDocument("medication.pdf")
                 .description("desc")
                 .createdOn(LocalDateTime.now())
@@ -90,7 +113,7 @@ class ClaimServiceUTest {
 
         ClaimSubmissionRequest request = ClaimSubmissionRequest.builder()
                 .claimType(ClaimType.MEDICATION_EXPENSES)
-                .requestedAmount(BigDecimal.TEN)
+                .requestedAmount(BigDecimal.valueOf(10))
                 .attachedDocument("medication.pdf")
                 .description("desc")
                 .build();
@@ -98,12 +121,12 @@ class ClaimServiceUTest {
         Claim saved = buildClaim(user, false);
         when(claimRepository.save(any(Claim.class))).thenReturn(saved);
 
-        Claim result = claimService.createClaim(request, user);
+        Claim result = claimService.createClaim(request, user).getClaim();
 
         assertNotNull(result);
         assertEquals(user, result.getUser(), "User should be set correctly");
         assertEquals(request.getClaimType(), result.getClaimType(), "Claim type should match request");
-        assertEquals(request.getRequestedAmount(), result.getRequestedAmount(), "Requested amount should match request");
+        assertEquals(Money.of(request.getRequestedAmount()), result.getRequestedAmount(), "Requested amount should match request");
         assertEquals(request.getAttachedDocument(), result.getAttachedDocument(), "Attached document should match request");
         assertEquals(request.getDescription(), result.getDescription(), "Description should match request");
         assertFalse(result.isDeleted(), "New claim should not be marked deleted");
@@ -114,50 +137,99 @@ class ClaimServiceUTest {
     }
 
     @Test
-    void getClaimsCreatedByUserForPeriod_ShouldReturnClaims() {
+    void createClaim_ShouldBeDueAfterTheTargetDecisionTimeOfItsType() {
 
         User user = buildUser(UserRole.POLICYHOLDER);
 
-        List<Claim> claims = List.of(buildClaim(user, false));
+        ClaimSubmissionRequest request = ClaimSubmissionRequest.builder()
+                .claimType(ClaimType.SURGERY_EXPENSES)
+                .requestedAmount(BigDecimal.valueOf(10))
+                .attachedDocument("surgery.pdf")
+                .build();
 
-        when(claimRepository.findAllByUserAndDeletedFalseAndCreatedOnBetween(
-                eq(user), any(), any()
-        )).thenReturn(claims);
+        when(claimRepository.save(any(Claim.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        List<Claim> result = claimService.getClaimsCreatedByUserForPeriod(
-                user,
-                LocalDate.now().minusDays(5),
-                LocalDate.now()
-        );
+        Claim result = claimService.createClaim(request, user).getClaim();
 
-        assertEquals(1, result.size());
+        assertEquals(result.getCreatedOn().plusHours(4), result.getDueOn());
     }
 
     @Test
-    void getClaimsCreatedByUserForPeriod_NoClaims_ShouldReturnEmptyList() {
+    void createClaim_HighValueClaim_ShouldBeDueAfterTheHighValueTargetDecisionTime() {
 
+        claimEvaluationProperties.setHighValueAmount(BigDecimal.valueOf(5000));
         User user = buildUser(UserRole.POLICYHOLDER);
 
-        when(claimRepository.findAllByUserAndDeletedFalseAndCreatedOnBetween(eq(user), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(Collections.emptyList());
+        ClaimSubmissionRequest request = ClaimSubmissionRequest.builder()
+                .claimType(ClaimType.MEDICATION_EXPENSES)
+                .requestedAmount(BigDecimal.valueOf(5000))
+                .attachedDocument("medication.pdf")
+                .build();
+
+        when(claimRepository.save(any(Claim.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        List<Claim> result = claimService.getClaimsCreatedByUserForPeriod(user, LocalDate.now().minusDays(10), LocalDate.now());
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
+        Claim result = claimService.createClaim(request, user).getClaim();
+
+        assertEquals(result.getCreatedOn().plusHours(2), result.getDueOn());
     }
 
     @Test
-    void getClaimsCreatedByUserForPeriod_StartAfterEnd_ShouldReturnEmptyList() {
+    void createClaim_BacklogAboveHardLimit_ShouldRejectWithoutSaving() {
 
         User user = buildUser(UserRole.POLICYHOLDER);
-        LocalDate start = LocalDate.now();
-        LocalDate end = LocalDate.now().minusDays(5);
 
-        when(claimRepository.findAllByUserAndDeletedFalseAndCreatedOnBetween(eq(user), eq(start.atStartOfDay()), eq(end.atTime(LocalTime.MAX)))).thenReturn(Collections.emptyList());
+        ClaimSubmissionRequest request = ClaimSubmissionRequest.builder()
+                .claimType(ClaimType.MEDICATION_EXPENSES)
+                .requestedAmount(BigDecimal.valueOf(10))
+                .attachedDocument("medication.pdf")
+                .build();
+
+        when(claimBacklog.admit()).thenReturn(ClaimAdmission.REJECTED);
 
-        List<Claim> result = claimService.getClaimsCreatedByUserForPeriod(user, start, end);
+        assertThrows(ClaimSubmissionRejectedException.class, () -> claimService.createClaim(request, user));
 
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
+        verify(claimRepository, never()).save(any());
+        verify(claimBacklog, never()).submitted();
+    }
+
+    @Test
+    void createClaim_BacklogAboveSoftLimit_ShouldReturnTheDelayedAdmission() {
+
+        User user = buildUser(UserRole.POLICYHOLDER);
+
+        ClaimSubmissionRequest request = ClaimSubmissionRequest.builder()
+                .claimType(ClaimType.MEDICATION_EXPENSES)
+                .requestedAmount(BigDecimal.valueOf(10))
+                .attachedDocument("medication.pdf")
+                .build();
+
+        when(claimBacklog.admit()).thenReturn(ClaimAdmission.DELAYED);
+        when(claimRepository.save(any(Claim.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ClaimSubmission submission = claimService.createClaim(request, user);
+
+        assertTrue(submission.isDelayed());
+        verify(claimBacklog).admit();
+        verify(claimBacklog).submitted();
+    }
+
+    @Test
+    void createClaim_ShouldPublishSavedClaimToIntake() {
+
+        User user = buildUser(UserRole.POLICYHOLDER);
+
+        ClaimSubmissionRequest request = ClaimSubmissionRequest.builder()
+                .claimType(ClaimType.MEDICATION_EXPENSES)
+                .requestedAmount(BigDecimal.valueOf(10))
+                .attachedDocument("medication.pdf")
+                .build();
+
+        Claim saved = buildClaim(user, false);
+        when(claimRepository.save(any(Claim.class))).thenReturn(saved);
+
+        claimService.createClaim(request, user);
+
+        verify(claimIntakeQueue).publish(saved);
     }
 
     @Test
@@ -171,12 +243,12 @@ class ClaimServiceUTest {
                 buildClaim(policyholder, false)
         );
 
-        when(claimRepository.findAllByOrderByUpdatedOnDesc()).thenReturn(claims);
+        when(claimRepository.findAllByOrderByUpdatedOnDescIdDesc(any(Limit.class))).thenReturn(claims);
 
-        List<Claim> result = claimService.getClaims(admin);
+        List<Claim> result = claimService.getClaims(admin, null).getContent();
 
         assertEquals(2, result.size());
-        verify(claimRepository).findAllByOrderByUpdatedOnDesc();
+        verify(claimRepository).findAllByOrderByUpdatedOnDescIdDesc(any(Limit.class));
     }
 
     @Test
@@ -186,12 +258,12 @@ class ClaimServiceUTest {
 
         List<Claim> claims = List.of(buildClaim(user, false));
 
-        when(claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user)).thenReturn(claims);
+        when(claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDescIdDesc(eq(user), any(Limit.class))).thenReturn(claims);
 
-        List<Claim> result = claimService.getClaims(user);
+        List<Claim> result = claimService.getClaims(user, null).getContent();
 
         assertEquals(1, result.size());
-        verify(claimRepository).findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user);
+        verify(claimRepository).findAllByUserAndDeletedFalseOrderByUpdatedOnDescIdDesc(eq(user), any(Limit.class));
     }
 
     @Test
@@ -199,13 +271,13 @@ class ClaimServiceUTest {
 
         User user = buildUser(UserRole.POLICYHOLDER);
 
-        when(claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user)).thenReturn(Collections.emptyList());
+        when(claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDescIdDesc(eq(user), any(Limit.class))).thenReturn(Collections.emptyList());
 
-        List<Claim> result = claimService.getClaims(user);
+        List<Claim> result = claimService.getClaims(user, null).getContent();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(claimRepository).findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user);
+        verify(claimRepository).findAllByUserAndDeletedFalseOrderByUpdatedOnDescIdDesc(eq(user), any(Limit.class));
     }
 
     @Test
@@ -323,6 +395,23 @@ class ClaimServiceUTest {
         verify(claimRepository).findAllByClaimStatus(ClaimStatus.OPEN);
     }
 
+    @Test
+    void getAllClaimsByStatus_DerivedReviewStatus_ShouldIncludeCooledOpenClaims() {
+
+        claimEvaluationProperties.setDeriveReviewStatus(true);
+        User user = buildUser(UserRole.POLICYHOLDER);
+        Claim stored = buildClaim(user, false);
+        stored.setClaimStatus(ClaimStatus.FOR_REVIEW);
+        Claim cooled = buildClaim(user, false);
+
+        when(claimRepository.findAllByClaimStatus(ClaimStatus.FOR_REVIEW)).thenReturn(List.of(stored));
+        when(claimRepository.findAllByClaimStatusAndCreatedOnLessThanEqual(eq(ClaimStatus.OPEN), any())).thenReturn(List.of(cooled));
+
+        List<Claim> result = claimService.getAllClaimsByStatus(ClaimStatus.FOR_REVIEW);
+
+        assertEquals(List.of(stored, cooled), result);
+    }
+
     @Test
     void rejectClaim_ShouldSetStatusToRejectedAndUpdateTimestamp() {
 
@@ -2,13 +2,21 @@ package app.claim;
 
 import app.claim.service.ClaimService;
 import app.scheduler.ClaimStatusChangeScheduler;
+import app.scheduler.service.JobLeaseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ClaimStatusChangeSchedulerUTest {
@@ -16,9 +24,20 @@ class ClaimStatusChangeSchedulerUTest {
     @Mock
     private ClaimService claimService;
 
-    @InjectMocks
+    @Mock
+    private JobLeaseService jobLeaseService;
+
+    private MeterRegistry meterRegistry;
+
     private ClaimStatusChangeScheduler scheduler;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(jobLeaseService.tryAcquire(anyString())).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new ClaimStatusChangeScheduler(claimService, jobLeaseService, meterRegistry);
+    }
+
     @Test
     void moveOpenClaimsToReview_ShouldCallClaimService() {
 
@@ -26,4 +45,32 @@ class ClaimStatusChangeSchedulerUTest {
 
         verify(claimService).moveOpenClaimsToReview();
     }
+
+    @Test
+    void moveOpenClaimsToReview_ShouldReportMovedClaims() {
+
+        when(claimService.moveOpenClaimsToReview()).thenReturn(7);
+
+        int movedClaims = scheduler.moveOpenClaimsToReview();
+
+        assertEquals(7, movedClaims);
+        assertEquals(7, meterRegistry.counter("claims.moved.to.review").count());
+    }
+
+    @Test
+    void moveOpenClaimsToReview_WhilePreviousRunInProgress_ShouldSkip() {
+
+        int[] nestedResult = new int[1];
+        when(claimService.moveOpenClaimsToReview()).thenAnswer(invocation -> {
+            nestedResult[0] = scheduler.moveOpenClaimsToReview();
+            return 3;
+        });
+
+        int movedClaims = scheduler.moveOpenClaimsToReview();
+
+        assertEquals(3, movedClaims);
+        assertEquals(0, nestedResult[0]);
+        verify(claimService, times(1)).moveOpenClaimsToReview();
+        assertEquals(1, meterRegistry.counter("scheduler.job.skipped", "job", "claim-status-change").count());
+    }
 }
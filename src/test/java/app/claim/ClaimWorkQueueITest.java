@@ -0,0 +1,195 @@
+package app.claim;
+
+import app.claim.model.Claim;
+import app.claim.model.ClaimKey;
+import app.claim.model.ClaimStatus;
+import app.claim.model.ClaimType;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimService;
+import app.claim.service.ClaimWorkQueue;
+import app.configuration.ClaimEvaluationProperties;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.model.Transaction;
+import app.transaction.repository.TransactionRepository;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.utility.ConcurrencyRetry;
+import app.utility.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Evaluators on different nodes only share the database, so separate work queue instances or threads with their own
+ * transactions stand in for separate nodes here.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "claims.evaluation.chunk-size=3")
+class ClaimWorkQueueITest {
+
+    private static final int CLAIMS = 20;
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ConcurrencyRetry concurrencyRetry;
+
+    @Autowired
+    private ClaimWorkQueue claimWorkQueue;
+
+    @Autowired
+    private ClaimEvaluationProperties claimEvaluationProperties;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+
+        LocalDateTime createdOn = LocalDateTime.now().minusHours(1);
+
+        for (int i = 0; i < CLAIMS; i++) {
+            User user = userRepository.save(User.builder()
+                    .username("queue" + i)
+                    .password("Password1@")
+                    .email("queue" + i + "@test.com")
+                    .firstName("John")
+                    .lastName("Doe")
+                    .role(UserRole.POLICYHOLDER)
+                    .permission("not_delete")
+                    .companyName(CompanyName.NEURO_NEST)
+                    .accountBalance(BigDecimal.ZERO)
+                    .policy(policyRepository.findByPolicyType(PolicyType.STANDARD))
+                    .createdOn(LocalDateTime.now())
+                    .updatedOn(LocalDateTime.now())
+                    .build());
+            users.add(user);
+
+            claimRepository.save(Claim.builder()
+                    .user(user)
+                    .claimType(ClaimType.MEDICATION_EXPENSES)
+                    .claimStatus(ClaimStatus.FOR_REVIEW)
+                    .requestedAmount(Money.of(10))
+                    .attachedDocument("medication.pdf")
+                    .createdOn(createdOn.plusSeconds(i))
+                    .updatedOn(createdOn)
+                    .dueOn(createdOn.plusSeconds(i).plusHours(24))
+                    .deleted(false)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        users.forEach(user -> transactionRepository.deleteAll(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user)));
+        users.forEach(user -> claimRepository.deleteAll(claimRepository.findAllByUserAndDeletedFalseOrderByUpdatedOnDesc(user)));
+        userRepository.deleteAllById(users.stream().map(User::getId).toList());
+    }
+
+    @Test
+    void leaseNext_TwoNodes_ShouldTakeDisjointBatches() {
+
+        ClaimWorkQueue otherNode = new ClaimWorkQueue(claimRepository, concurrencyRetry, claimEvaluationProperties);
+
+        List<ClaimKey> first = claimWorkQueue.leaseNext(ClaimStatus.FOR_REVIEW, null, 5);
+        List<ClaimKey> second = otherNode.leaseNext(ClaimStatus.FOR_REVIEW, null, 5);
+
+        assertEquals(5, first.size());
+        assertEquals(5, second.size());
+        Set<UUID> overlap = first.stream().map(ClaimKey::getId).collect(Collectors.toCollection(HashSet::new));
+        overlap.retainAll(second.stream().map(ClaimKey::getId).toList());
+        assertTrue(overlap.isEmpty());
+        assertTrue(otherNode.lease(first.stream().map(ClaimKey::getId).toList(), ClaimStatus.FOR_REVIEW).isEmpty());
+    }
+
+    @Test
+    void leaseNext_ExpiredLease_ShouldBeTakenOverByAnotherNode() {
+
+        ClaimEvaluationProperties expiringLeases = new ClaimEvaluationProperties();
+        expiringLeases.setLeaseDuration(Duration.ofSeconds(-1));
+        ClaimWorkQueue crashedNode = new ClaimWorkQueue(claimRepository, concurrencyRetry, expiringLeases);
+
+        List<UUID> abandoned = crashedNode.leaseNext(ClaimStatus.FOR_REVIEW, null, CLAIMS).stream().map(ClaimKey::getId).toList();
+        List<UUID> takenOver = claimWorkQueue.leaseNext(ClaimStatus.FOR_REVIEW, null, CLAIMS).stream().map(ClaimKey::getId).toList();
+
+        assertEquals(CLAIMS, abandoned.size());
+        assertEquals(abandoned, takenOver);
+    }
+
+    @Test
+    void leaseNext_Prioritized_ShouldTakeTheClaimDueSoonestFirst() {
+
+        LocalDateTime createdOn = LocalDateTime.now().minusMinutes(1);
+        Claim surgery = claimRepository.save(Claim.builder()
+                .user(users.get(0))
+                .claimType(ClaimType.SURGERY_EXPENSES)
+                .claimStatus(ClaimStatus.FOR_REVIEW)
+                .requestedAmount(Money.of(10))
+                .attachedDocument("surgery.pdf")
+                .createdOn(createdOn)
+                .updatedOn(createdOn)
+                .dueOn(createdOn.plusHours(4))
+                .deleted(false)
+                .build());
+
+        ClaimEvaluationProperties prioritized = new ClaimEvaluationProperties();
+        prioritized.setPrioritized(true);
+        ClaimWorkQueue prioritizedQueue = new ClaimWorkQueue(claimRepository, concurrencyRetry, prioritized);
+
+        List<ClaimKey> byAge = claimWorkQueue.leaseNext(ClaimStatus.FOR_REVIEW, null, 1);
+        List<ClaimKey> byPriority = prioritizedQueue.leaseNext(ClaimStatus.FOR_REVIEW, null, 1);
+
+        assertNotEquals(surgery.getId(), byAge.get(0).getId());
+        assertEquals(surgery.getId(), byPriority.get(0).getId());
+    }
+
+    @Test
+    void evaluateClaims_TwoNodesAtOnce_ShouldPayEveryClaimExactlyOnce() {
+
+        CompletableFuture<Void> firstNode = CompletableFuture.runAsync(claimService::evaluateClaims);
+        CompletableFuture<Void> secondNode = CompletableFuture.runAsync(claimService::evaluateClaims);
+        CompletableFuture.allOf(firstNode, secondNode).join();
+
+        // Either node may stop early when the other one holds the remaining claims, a later run picks up the rest.
+        claimService.evaluateClaims();
+
+        assertTrue(claimRepository.findAllByClaimStatus(ClaimStatus.FOR_REVIEW).isEmpty());
+
+        for (User user : users) {
+            List<Transaction> transactions = transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user);
+            assertEquals(1, transactions.size());
+            assertEquals(0, BigDecimal.TEN.compareTo(userRepository.findById(user.getId()).orElseThrow().getAccountBalance()));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package app.claim;
+
+import app.claim.model.ClaimKey;
+import app.claim.model.ClaimStatus;
+import app.claim.repository.ClaimRepository;
+import app.claim.service.ClaimWorkQueue;
+import app.configuration.ClaimEvaluationProperties;
+import app.utility.ConcurrencyRetry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimWorkQueueUTest {
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private ConcurrencyRetry concurrencyRetry;
+
+    private ClaimWorkQueue claimWorkQueue;
+
+    @BeforeEach
+    void setUp() {
+        when(concurrencyRetry.execute(eq("claims.lease"), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
+        claimWorkQueue = new ClaimWorkQueue(claimRepository, concurrencyRetry, new ClaimEvaluationProperties());
+    }
+
+    @Test
+    void leaseNext_LostRound_ShouldRescanInANewTransaction() {
+
+        ClaimKey taken = new ClaimKey(UUID.randomUUID(), UUID.randomUUID(), LocalDateTime.now());
+        ClaimKey free = new ClaimKey(UUID.randomUUID(), UUID.randomUUID(), LocalDateTime.now());
+        when(claimRepository.findLeasableKeys(eq(ClaimStatus.FOR_REVIEW), any(), any(), any())).thenReturn(List.of(taken), List.of(free));
+        when(claimRepository.lease(eq(List.of(taken.getId())), any(), any(), any(), any())).thenReturn(0);
+        when(claimRepository.lease(eq(List.of(free.getId())), any(), any(), any(), any())).thenReturn(1);
+
+        List<ClaimKey> leased = claimWorkQueue.leaseNext(ClaimStatus.FOR_REVIEW, null, 1);
+
+        assertEquals(List.of(free), leased);
+        verify(concurrencyRetry, times(2)).execute(eq("claims.lease"), any());
+    }
+
+    @Test
+    void leaseNext_EveryRoundLost_ShouldGiveUpAfterABoundedNumberOfScans() {
+
+        ClaimKey taken = new ClaimKey(UUID.randomUUID(), UUID.randomUUID(), LocalDateTime.now());
+        when(claimRepository.findLeasableKeys(eq(ClaimStatus.FOR_REVIEW), any(), any(), any())).thenReturn(List.of(taken));
+        when(claimRepository.lease(any(), any(), any(), any(), any())).thenReturn(0);
+
+        List<ClaimKey> leased = claimWorkQueue.leaseNext(ClaimStatus.FOR_REVIEW, null, 1);
+
+        assertTrue(leased.isEmpty());
+        verify(concurrencyRetry, times(5)).execute(eq("claims.lease"), any());
+    }
+}
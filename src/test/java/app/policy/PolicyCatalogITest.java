@@ -0,0 +1,111 @@
+package app.policy;
+
+import app.exception.PolicyUpdateConflictException;
+import app.policy.model.Policy;
+import app.policy.model.PolicySnapshot;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.policy.service.PolicyCatalog;
+import app.policy.service.PolicyService;
+import app.user.model.User;
+import app.web.dto.PolicyLimitsChangeRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class PolicyCatalogITest {
+
+    @Autowired
+    private PolicyService policyService;
+
+    @Autowired
+    private PolicyCatalog policyCatalog;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    private PolicyLimitsChangeRequest originalLimits;
+
+    @AfterEach
+    void restoreLimits() {
+        if (originalLimits != null) {
+            Policy comfort = policyService.getByType(PolicyType.COMFORT);
+            originalLimits.setVersion(comfort.getVersion());
+            policyService.updatePolicyLimits(comfort, originalLimits, User.builder().username("test").build());
+        }
+    }
+
+    @Test
+    void reads_ShouldBeServedFromTheSameSnapshot() {
+
+        PolicySnapshot snapshot = policyCatalog.reload();
+        Policy standard = policyService.getByType(PolicyType.STANDARD);
+
+        assertSame(snapshot.getByType(PolicyType.STANDARD), standard);
+        assertSame(standard, policyService.getById(standard.getId()));
+        assertEquals(PolicyType.values().length, policyService.getPolicies().size());
+        assertSame(snapshot, policyCatalog.reload());
+    }
+
+    @Test
+    void updatePolicyLimits_ShouldSwapInANewSnapshot() {
+
+        Policy comfort = policyService.getByType(PolicyType.COMFORT);
+        originalLimits = limits(comfort.getLimitForMedications(), comfort);
+        long version = policyCatalog.snapshot().getVersion();
+
+        policyService.updatePolicyLimits(comfort, limits(BigDecimal.valueOf(75), comfort), User.builder().username("admin").build());
+
+        Policy updated = policyService.getByType(PolicyType.COMFORT);
+        assertEquals(version + 1, policyCatalog.snapshot().getVersion());
+        assertEquals(0, BigDecimal.valueOf(75).compareTo(updated.getLimitForMedications()));
+        assertEquals(0, BigDecimal.valueOf(75).compareTo(policyRepository.findById(comfort.getId()).orElseThrow().getLimitForMedications()));
+        assertEquals(0, originalLimits.getLimitForMedications().compareTo(comfort.getLimitForMedications()));
+    }
+
+    @Test
+    void updatePolicyLimits_FromAStaleForm_ShouldBeRejected() {
+
+        Policy comfort = policyService.getByType(PolicyType.COMFORT);
+        originalLimits = limits(comfort.getLimitForMedications(), comfort);
+        PolicyLimitsChangeRequest staleForm = limits(BigDecimal.valueOf(60), comfort);
+
+        policyService.updatePolicyLimits(comfort, limits(BigDecimal.valueOf(75), comfort), User.builder().username("admin").build());
+
+        assertThrows(PolicyUpdateConflictException.class, () -> policyService.updatePolicyLimits(comfort, staleForm, User.builder().username("other").build()));
+        assertEquals(0, BigDecimal.valueOf(75).compareTo(policyRepository.findById(comfort.getId()).orElseThrow().getLimitForMedications()));
+    }
+
+    @Test
+    void getInForce_ShouldReturnTheLimitsBeforeAndAfterAnUpdate() {
+
+        Policy comfort = policyService.getByType(PolicyType.COMFORT);
+        originalLimits = limits(comfort.getLimitForMedications(), comfort);
+        LocalDateTime beforeUpdate = LocalDateTime.now();
+
+        policyService.updatePolicyLimits(comfort, limits(BigDecimal.valueOf(75), comfort), User.builder().username("admin").build());
+
+        assertEquals(0, originalLimits.getLimitForMedications().compareTo(policyService.getInForce(comfort.getId(), beforeUpdate).getLimitForMedications()));
+        assertEquals(0, BigDecimal.valueOf(75).compareTo(policyService.getInForce(comfort.getId(), LocalDateTime.now()).getLimitForMedications()));
+    }
+
+    private static PolicyLimitsChangeRequest limits(BigDecimal limitForMedications, Policy policy) {
+        return PolicyLimitsChangeRequest.builder()
+                .limitForMedications(limitForMedications)
+                .limitForHospitalTreatment(policy.getLimitForHospitalTreatment())
+                .limitForSurgery(policy.getLimitForSurgery())
+                .limitForDentalService(policy.getLimitForDentalService())
+                .policyPrice(policy.getPolicyPrice())
+                .version(policy.getVersion())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package app.policy;
 
 import app.exception.PolicyNotFoundException;
+import app.exception.PolicyUpdateConflictException;
 import app.policy.model.Policy;
 import app.policy.model.PolicyType;
 import app.policy.service.PolicyService;
@@ -152,6 +153,7 @@ class PolicyControllerMVCTest {
                         .param("limitForSurgery", "300")
                         .param("limitForDentalService", "50")
                         .param("policyPrice", "500")
+                        .param("version", "0")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/policy"));
@@ -160,6 +162,58 @@ class PolicyControllerMVCTest {
         verify(policyService).updatePolicyLimits(eq(policy), any(), eq(admin));
     }
 
+    @Test
+    void changePolicyLimits_limitWithSubCentPrecision_rendersFormAgain() throws Exception {
+        Policy policy = createDummyPolicy();
+        User admin = createDummyUser(UserRole.ADMIN, policy);
+        AuthenticationMetadata auth = authenticationMetadata(admin);
+
+        when(policyService.getById(policy.getId())).thenReturn(policy);
+
+        mockMvc.perform(post("/policy/{id}/policy-settings", policy.getId())
+                        .with(user(auth))
+                        .with(csrf())
+                        .param("limitForMedications", "100.005")
+                        .param("limitForHospitalTreatment", "200")
+                        .param("limitForSurgery", "300")
+                        .param("limitForDentalService", "50")
+                        .param("policyPrice", "500")
+                        .param("version", "0")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED))
+                .andExpect(status().isOk())
+                .andExpect(view().name("policy-limits-form"))
+                .andExpect(model().attributeHasFieldErrors("policyLimitsChangeRequest", "limitForMedications"));
+
+        verify(policyService, never()).updatePolicyLimits(any(), any(), any());
+    }
+
+    @Test
+    void changePolicyLimits_staleVersion_rendersFormAgainWithConflict() throws Exception {
+        Policy policy = createDummyPolicy();
+        User admin = createDummyUser(UserRole.ADMIN, policy);
+        AuthenticationMetadata auth = authenticationMetadata(admin);
+
+        when(policyService.getById(policy.getId())).thenReturn(policy);
+        when(userService.getById(admin.getId())).thenReturn(admin);
+        doThrow(new PolicyUpdateConflictException("Policy was changed by another administrator."))
+                .when(policyService).updatePolicyLimits(eq(policy), any(), eq(admin));
+
+        mockMvc.perform(post("/policy/{id}/policy-settings", policy.getId())
+                        .with(user(auth))
+                        .with(csrf())
+                        .param("limitForMedications", "100")
+                        .param("limitForHospitalTreatment", "200")
+                        .param("limitForSurgery", "300")
+                        .param("limitForDentalService", "50")
+                        .param("policyPrice", "500")
+                        .param("version", "0")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED))
+                .andExpect(status().isConflict())
+                .andExpect(view().name("policy-limits-form"))
+                .andExpect(model().attribute("conflictMessage", "Policy was changed by another administrator."))
+                .andExpect(model().attributeExists("policyLimitsChangeRequest"));
+    }
+
     @Test
     void changePolicyLimits_policyNotFound_failsAndRedirects() throws Exception {
         Policy policy = createDummyPolicy();
@@ -176,6 +230,7 @@ class PolicyControllerMVCTest {
                         .param("limitForSurgery", "300")
                         .param("limitForDentalService", "50")
                         .param("policyPrice", "500")
+                        .param("version", "0")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/policy"));
@@ -197,6 +252,7 @@ class PolicyControllerMVCTest {
                         .param("limitForSurgery", "300")
                         .param("limitForDentalService", "50")
                         .param("policyPrice", "500")
+                        .param("version", "0")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED))
                 .andExpect(status().isForbidden());
 
@@ -1,15 +1,21 @@
 package app.policy;
 
 import app.exception.PolicyNotFoundException;
+import app.exception.PolicyUpdateConflictException;
 import app.policy.model.Policy;
+import app.policy.model.PolicyLimitVersion;
 import app.policy.model.PolicyType;
+import app.policy.repository.PolicyLimitVersionRepository;
 import app.policy.repository.PolicyRepository;
+import app.policy.service.PolicyCatalog;
 import app.policy.service.PolicyService;
 import app.user.model.User;
+import app.utility.ConcurrencyRetry;
 import app.web.dto.PolicyLimitsChangeRequest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -23,6 +29,12 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,9 +44,24 @@ public class PolicyServiceUTest {
     @Mock
     private PolicyRepository policyRepository;
 
-    @InjectMocks
+    @Mock
+    private PolicyLimitVersionRepository policyLimitVersionRepository;
+
+    @Mock
+    private ConcurrencyRetry concurrencyRetry;
+
     private PolicyService policyService;
 
+    @BeforeEach
+    void setUp() {
+        policyService = new PolicyService(policyRepository, policyLimitVersionRepository, concurrencyRetry, new PolicyCatalog(policyRepository, policyLimitVersionRepository));
+
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(concurrencyRetry).run(anyString(), any(Runnable.class));
+    }
+
     @Test
     void whenGetByType_andPolicyExists_thenReturnPolicy() {
 
@@ -52,7 +79,7 @@ public class PolicyServiceUTest {
                 .updatedOn(LocalDateTime.now().minusDays(1))
                 .build();
 
-        when(policyRepository.findByPolicyType(type)).thenReturn(policy);
+        when(policyRepository.findAll()).thenReturn(List.of(policy));
 
         Policy result = policyService.getByType(type);
 
@@ -64,7 +91,7 @@ public class PolicyServiceUTest {
         assertEquals(BigDecimal.valueOf(300), result.getLimitForDentalService());
         assertEquals(BigDecimal.valueOf(49.99), result.getPolicyPrice());
 
-        verify(policyRepository).findByPolicyType(type);
+        verify(policyRepository).findAll();
 
     }
 
@@ -72,13 +99,13 @@ public class PolicyServiceUTest {
     void whenGetByType_andPolicyDoesNotExist_thenReturnNull() {
 
         PolicyType type = PolicyType.LUX;
-        when(policyRepository.findByPolicyType(type)).thenReturn(null);
+        when(policyRepository.findAll()).thenReturn(List.of());
 
         Policy result = policyService.getByType(type);
 
         assertNull(result);
 
-        verify(policyRepository).findByPolicyType(type);
+        verify(policyRepository).findAll();
     }
 
     @Test
@@ -113,7 +140,7 @@ public class PolicyServiceUTest {
         List<Policy> result = policyService.getPolicies();
 
         assertThat(result).hasSize(2);
-        assertThat(result).containsExactly(policy1, policy2);
+        assertThat(result).extracting(Policy::getId).containsExactly(policy1.getId(), policy2.getId());
         assertEquals(PolicyType.STANDARD, result.get(0).getPolicyType());
         assertEquals(PolicyType.LUX, result.get(1).getPolicyType());
 
@@ -148,9 +175,10 @@ public class PolicyServiceUTest {
                 .updatedOn(LocalDateTime.now().minusDays(1))
                 .build();
 
-        when(policyRepository.findById(policyId)).thenReturn(Optional.of(policy));
+        when(policyRepository.findAll()).thenReturn(List.of(policy));
 
         Policy result = policyService.getById(policyId);
+        policyService.getById(policyId);
 
         assertNotNull(result);
         assertEquals(policyId, result.getId());
@@ -161,14 +189,14 @@ public class PolicyServiceUTest {
         assertEquals(BigDecimal.valueOf(300), result.getLimitForDentalService());
         assertEquals(BigDecimal.valueOf(49.99), result.getPolicyPrice());
 
-        verify(policyRepository).findById(policyId);
+        verify(policyRepository).findAll();
     }
 
     @Test
     void whenGetById_andPolicyDoesNotExist_thenThrowPolicyNotFoundException() {
 
         UUID policyId = UUID.randomUUID();
-        when(policyRepository.findById(policyId)).thenReturn(Optional.empty());
+        when(policyRepository.findAll()).thenReturn(List.of());
 
         PolicyNotFoundException exception = assertThrows(
                 PolicyNotFoundException.class,
@@ -177,7 +205,7 @@ public class PolicyServiceUTest {
 
         assertEquals("Policy with [" + policyId + "] id is not present.", exception.getMessage());
 
-        verify(policyRepository).findById(policyId);
+        verify(policyRepository, times(2)).findAll();
     }
 
     @Test
@@ -201,12 +229,15 @@ public class PolicyServiceUTest {
                 .limitForSurgery(BigDecimal.valueOf(1800))
                 .limitForDentalService(BigDecimal.valueOf(300))
                 .policyPrice(BigDecimal.valueOf(49.99))
+                .version(0L)
                 .build();
 
         User admin = User.builder()
                 .username("admin_user")
                 .build();
 
+        when(policyRepository.findById(policy.getId())).thenReturn(Optional.of(policy));
+
         policyService.updatePolicyLimits(policy, request, admin);
 
         assertEquals(BigDecimal.valueOf(500), policy.getLimitForMedications());
@@ -219,5 +250,78 @@ public class PolicyServiceUTest {
                 .isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.SECONDS));
 
         verify(policyRepository).save(policy);
+        // the catalog is reloaded right away without a surrounding transaction
+        verify(policyRepository).findAll();
+
+        ArgumentCaptor<PolicyLimitVersion> versions = ArgumentCaptor.forClass(PolicyLimitVersion.class);
+        verify(policyLimitVersionRepository, times(2)).save(versions.capture());
+        assertEquals(BigDecimal.valueOf(200), versions.getAllValues().get(0).getLimitForMedications());
+        assertEquals(policy.getCreatedOn(), versions.getAllValues().get(0).getEffectiveFrom());
+        assertEquals(BigDecimal.valueOf(500), versions.getAllValues().get(1).getLimitForMedications());
+        assertEquals(policy.getUpdatedOn(), versions.getAllValues().get(1).getEffectiveFrom());
+    }
+
+    @Test
+    void whenGetInForce_thenReturnLimitsEffectiveAtThatTime() {
+
+        LocalDateTime createdOn = LocalDateTime.now().minusDays(10);
+        LocalDateTime updatedOn = LocalDateTime.now().minusDays(2);
+        Policy policy = Policy.builder()
+                .id(UUID.randomUUID())
+                .policyType(PolicyType.STANDARD)
+                .limitForMedications(BigDecimal.valueOf(300))
+                .limitForHospitalTreatment(BigDecimal.valueOf(1000))
+                .limitForSurgery(BigDecimal.valueOf(2000))
+                .limitForDentalService(BigDecimal.valueOf(200))
+                .policyPrice(BigDecimal.valueOf(29.99))
+                .createdOn(createdOn)
+                .updatedOn(updatedOn)
+                .build();
+
+        when(policyRepository.findAll()).thenReturn(List.of(policy));
+        when(policyLimitVersionRepository.findAll()).thenReturn(List.of(
+                limitVersion(policy, createdOn, BigDecimal.valueOf(100)),
+                limitVersion(policy, updatedOn, BigDecimal.valueOf(300))));
+
+        assertEquals(BigDecimal.valueOf(100), policyService.getInForce(policy.getId(), createdOn.minusDays(1)).getLimitForMedications());
+        assertEquals(BigDecimal.valueOf(100), policyService.getInForce(policy.getId(), updatedOn.minusSeconds(1)).getLimitForMedications());
+        assertEquals(BigDecimal.valueOf(300), policyService.getInForce(policy.getId(), updatedOn).getLimitForMedications());
+        assertEquals(BigDecimal.valueOf(300), policyService.getInForce(policy.getId(), LocalDateTime.now()).getLimitForMedications());
+    }
+
+    private static PolicyLimitVersion limitVersion(Policy policy, LocalDateTime effectiveFrom, BigDecimal limitForMedications) {
+        return PolicyLimitVersion.builder()
+                .id(UUID.randomUUID())
+                .policy(policy)
+                .effectiveFrom(effectiveFrom)
+                .limitForMedications(limitForMedications)
+                .limitForHospitalTreatment(policy.getLimitForHospitalTreatment())
+                .limitForSurgery(policy.getLimitForSurgery())
+                .limitForDentalService(policy.getLimitForDentalService())
+                .build();
+    }
+
+    @Test
+    void whenUpdatePolicyLimits_andPolicyChangedSinceTheFormWasLoaded_thenConflictIsThrown_andNothingIsSaved() {
+
+        Policy policy = Policy.builder()
+                .id(UUID.randomUUID())
+                .policyType(PolicyType.STANDARD)
+                .limitForMedications(BigDecimal.valueOf(200))
+                .version(3L)
+                .build();
+
+        PolicyLimitsChangeRequest request = PolicyLimitsChangeRequest.builder()
+                .limitForMedications(BigDecimal.valueOf(500))
+                .version(2L)
+                .build();
+
+        when(policyRepository.findById(policy.getId())).thenReturn(Optional.of(policy));
+
+        assertThrows(PolicyUpdateConflictException.class, () -> policyService.updatePolicyLimits(policy, request, User.builder().username("admin_user").build()));
+
+        assertEquals(BigDecimal.valueOf(200), policy.getLimitForMedications());
+        verify(policyRepository, never()).save(any());
+        verify(policyLimitVersionRepository, never()).save(any());
     }
 }
@@ -15,6 +15,7 @@ import app.user.model.User;
 import app.user.model.UserRole;
 import app.report.service.ReportService;
 import app.user.service.UserService;
+import app.utility.Money;
 import app.web.dto.CreateSummaryByDates;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -86,7 +87,7 @@ class ReportServiceITest {
                 .user(user)
                 .claimType(ClaimType.MEDICATION_EXPENSES)
                 .claimStatus(ClaimStatus.APPROVED)
-                .requestedAmount(BigDecimal.valueOf(100))
+                .requestedAmount(Money.of(100))
                 .attachedDocument("medication.pdf")
                 .createdOn(LocalDateTime.now())
                 .updatedOn(LocalDateTime.now())
@@ -97,7 +98,7 @@ class ReportServiceITest {
                 .user(user)
                 .claimType(ClaimType.MEDICATION_EXPENSES)
                 .claimStatus(ClaimStatus.REJECTED)
-                .requestedAmount(BigDecimal.valueOf(50))
+                .requestedAmount(Money.of(50))
                 .attachedDocument("doc123.pdf")
                 .createdOn(LocalDateTime.now())
                 .updatedOn(LocalDateTime.now())
@@ -111,7 +112,7 @@ class ReportServiceITest {
                 .transactionOwner(user)
                 .transactionStatus(TransactionStatus.COMPLETED)
                 .referenceNumber("ABCDEFGH")
-                .paidAmount(BigDecimal.valueOf(100))
+                .paidAmount(Money.of(100))
                 .createdOn(LocalDateTime.now())
                 .updatedOn(LocalDateTime.now())
                 .deleted(false)
@@ -121,7 +122,7 @@ class ReportServiceITest {
                 .transactionOwner(user)
                 .transactionStatus(TransactionStatus.COMPLETED)
                 .referenceNumber("IJKLMNOP")
-                .paidAmount(BigDecimal.valueOf(50))
+                .paidAmount(Money.of(50))
                 .createdOn(LocalDateTime.now())
                 .updatedOn(LocalDateTime.now())
                 .deleted(false)
@@ -1,20 +1,26 @@
 package app.report;
 
-import app.claim.service.ClaimService;
+import app.activity.model.UserActivityTotals;
+import app.activity.service.UserActivityService;
 import app.report.client.ReportClient;
+import app.report.client.dto.CreateSummaryRequest;
 import app.report.client.dto.Summary;
-import app.transaction.service.TransactionService;
 import app.report.service.ReportService;
+import app.user.model.User;
+import app.web.dto.CreateSummaryByDates;
 import feign.FeignException;
 import feign.Request;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
+import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -29,10 +35,7 @@ class ReportServiceUTest {
     private ReportClient reportClient;
 
     @Mock
-    private ClaimService claimService;
-
-    @Mock
-    private TransactionService transactionService;
+    private UserActivityService userActivityService;
 
     @InjectMocks
     private ReportService reportService;
@@ -127,4 +130,23 @@ class ReportServiceUTest {
         verify(reportClient).getReportDetails(reportId);
         verify(reportClient, never()).deleteReport(reportId);
     }
+
+    @Test
+    void createReport_ShouldSendTheTotalsOfTheDailyActivity() {
+
+        User user = User.builder().id(UUID.randomUUID()).build();
+        LocalDate startDate = LocalDate.now().minusDays(30);
+        LocalDate endDate = LocalDate.now();
+        when(userActivityService.getTotals(user.getId(), startDate, endDate)).thenReturn(new UserActivityTotals(5L, 2L, 3L, new BigDecimal("150.50")));
+
+        reportService.createReport(new CreateSummaryByDates(startDate, endDate), user);
+
+        ArgumentCaptor<CreateSummaryRequest> request = ArgumentCaptor.forClass(CreateSummaryRequest.class);
+        verify(reportClient).createReport(request.capture());
+        assertEquals(user.getId(), request.getValue().getUserId());
+        assertEquals(5, request.getValue().getTotalClaims());
+        assertEquals(2, request.getValue().getTotalApprovedClaims());
+        assertEquals(3, request.getValue().getTotalTransactions());
+        assertEquals(new BigDecimal("150.50"), request.getValue().getTotalReimbursedAmount());
+    }
 }
@@ -0,0 +1,97 @@
+package app.scheduler;
+
+import app.HealthInsuranceApplication;
+import app.scheduler.repository.JobLeaseRepository;
+import app.scheduler.service.JobLeaseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs a second application context next to the test context. Both use the same in-memory H2 database, like two nodes
+ * sharing one database.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"scheduling.lease-duration=PT2S", "scheduling.heartbeat-interval=PT1H"})
+class JobLeaseServiceITest {
+
+    private static final String JOB = "lease-test";
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    private ConfigurableApplicationContext otherNode;
+    private JobLeaseService otherNodeLeases;
+
+    @BeforeEach
+    void startOtherNode() {
+        otherNode = new SpringApplicationBuilder(HealthInsuranceApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--spring.jmx.enabled=false", "--scheduling.lease-duration=PT2S", "--scheduling.heartbeat-interval=PT1H");
+        otherNodeLeases = otherNode.getBean(JobLeaseService.class);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (otherNode.isActive()) {
+            otherNode.close();
+        }
+        jobLeaseRepository.deleteById(JOB);
+    }
+
+    @Test
+    void tryAcquire_TwoNodes_ShouldElectOneLeader() {
+
+        assertTrue(jobLeaseService.tryAcquire(JOB));
+        assertFalse(otherNodeLeases.tryAcquire(JOB));
+
+        assertTrue(jobLeaseService.tryAcquire(JOB));
+        assertFalse(otherNodeLeases.tryAcquire(JOB));
+    }
+
+    @Test
+    void tryAcquire_LeaderStopsHeartbeating_ShouldFailOverAfterLeaseDuration() throws InterruptedException {
+
+        assertTrue(otherNodeLeases.tryAcquire(JOB));
+        assertFalse(jobLeaseService.tryAcquire(JOB));
+
+        Thread.sleep(2500);
+
+        assertTrue(jobLeaseService.tryAcquire(JOB));
+        assertFalse(otherNodeLeases.tryAcquire(JOB));
+    }
+
+    @Test
+    void heartbeat_ShouldKeepTheLeaseBeyondLeaseDuration() throws InterruptedException {
+
+        assertTrue(otherNodeLeases.tryAcquire(JOB));
+
+        Thread.sleep(1500);
+        otherNodeLeases.heartbeat();
+        Thread.sleep(1500);
+
+        assertFalse(jobLeaseService.tryAcquire(JOB));
+    }
+
+    @Test
+    void shutdown_ShouldHandOverLeadershipRightAway() {
+
+        assertTrue(otherNodeLeases.tryAcquire(JOB));
+        assertFalse(jobLeaseService.tryAcquire(JOB));
+
+        otherNode.close();
+
+        assertTrue(jobLeaseService.tryAcquire(JOB));
+    }
+}
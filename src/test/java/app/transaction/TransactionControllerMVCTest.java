@@ -10,6 +10,8 @@ import app.user.model.CompanyName;
 import app.user.model.User;
 import app.user.model.UserRole;
 import app.user.service.UserService;
+import app.utility.KeysetPage;
+import app.utility.Money;
 import app.web.TransactionController;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -66,7 +68,7 @@ class TransactionControllerMVCTest {
                 .id(UUID.randomUUID())
                 .transactionStatus(TransactionStatus.COMPLETED)
                 .referenceNumber(UUID.randomUUID().toString().replace("-", "").substring(0, 8))
-                .paidAmount(BigDecimal.valueOf(100))
+                .paidAmount(Money.of(100))
                 .createdOn(LocalDateTime.now())
                 .updatedOn(LocalDateTime.now())
                 .deleted(false)
@@ -96,7 +98,7 @@ class TransactionControllerMVCTest {
         Transaction t2 = createDummyTransaction(user);
 
         when(userService.getById(user.getId())).thenReturn(user);
-        when(transactionService.getAllTransactions(user)).thenReturn(List.of(t1, t2));
+        when(transactionService.getAllTransactions(eq(user), isNull())).thenReturn(new KeysetPage<>(List.of(t1, t2), null));
 
         mockMvc.perform(get("/transactions").with(user(auth)))
                 .andExpect(status().isOk())
@@ -104,7 +106,7 @@ class TransactionControllerMVCTest {
                 .andExpect(model().attributeExists("transactions"));
 
         verify(userService).getById(user.getId());
-        verify(transactionService).getAllTransactions(user);
+        verify(transactionService).getAllTransactions(eq(user), isNull());
     }
 
     @Test
@@ -114,14 +116,14 @@ class TransactionControllerMVCTest {
         AuthenticationMetadata auth = authenticationMetadata(user);
 
         when(userService.getById(user.getId())).thenReturn(user);
-        when(transactionService.getAllTransactions(user))
+        when(transactionService.getAllTransactions(eq(user), isNull()))
                 .thenThrow(new TransactionNotFoundException("No transactions found"));
 
         mockMvc.perform(get("/transactions").with(user(auth)))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/transactions"));
 
-        verify(transactionService).getAllTransactions(user);
+        verify(transactionService).getAllTransactions(eq(user), isNull());
     }
 
     @Test
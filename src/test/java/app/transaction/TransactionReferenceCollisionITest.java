@@ -0,0 +1,131 @@
+package app.transaction;
+
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionStatus;
+import app.transaction.repository.TransactionRepository;
+import app.transaction.service.TransactionReferenceGenerator;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.user.service.UserService;
+import app.utility.Money;
+import app.web.dto.AccountBalanceRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Hands out a reference that is already taken, so the insert of the new transaction fails on the unique reference index
+ * and has to be retried with a fresh reference.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class TransactionReferenceCollisionITest {
+
+    private static final String TAKEN_REFERENCE = "00000000c0111de5";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ScriptedReferenceGenerator referenceGenerator;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("colliding")
+                .password("Password1@")
+                .email("colliding@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policyRepository.findByPolicyType(PolicyType.STANDARD))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+
+        transactionRepository.save(Transaction.builder()
+                .transactionStatus(TransactionStatus.COMPLETED)
+                .referenceNumber(TAKEN_REFERENCE)
+                .paidAmount(Money.of(1))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .deleted(false)
+                .transactionOwner(user)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transactionRepository.deleteAll(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user));
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void updateBalance_ReferenceCollision_ShouldRetryWithFreshReference() {
+
+        referenceGenerator.scripted.add(TAKEN_REFERENCE);
+
+        AccountBalanceRequest request = new AccountBalanceRequest();
+        request.setAddedAmount(BigDecimal.TEN);
+        userService.updateBalance(user.getId(), request);
+
+        List<Transaction> transactions = transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user);
+        assertEquals(2, transactions.size());
+        assertNotEquals(TAKEN_REFERENCE, transactions.get(0).getReferenceNumber());
+        assertEquals(0, BigDecimal.TEN.compareTo(userRepository.findById(user.getId()).orElseThrow().getAccountBalance()));
+    }
+
+    static class ScriptedReferenceGenerator extends TransactionReferenceGenerator {
+
+        private final Queue<String> scripted = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String next() {
+            String reference = scripted.poll();
+            return reference != null ? reference : super.next();
+        }
+    }
+
+    @TestConfiguration
+    static class ScriptedReferences {
+
+        @Bean
+        @Primary
+        ScriptedReferenceGenerator scriptedReferenceGenerator() {
+            return new ScriptedReferenceGenerator();
+        }
+    }
+}
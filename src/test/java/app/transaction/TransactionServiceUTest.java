@@ -1,5 +1,7 @@
 package app.transaction;
 
+import app.activity.service.UserActivityService;
+import app.configuration.ListingProperties;
 import app.exception.DomainException;
 import app.exception.TransactionNotFoundException;
 import app.policy.model.Policy;
@@ -7,20 +9,24 @@ import app.policy.model.PolicyType;
 import app.transaction.model.Transaction;
 import app.transaction.model.TransactionStatus;
 import app.transaction.repository.TransactionRepository;
+import app.transaction.service.TransactionReferenceGenerator;
 import app.transaction.service.TransactionService;
 import app.user.model.CompanyName;
 import app.user.model.User;
 import app.user.model.UserRole;
+import app.utility.KeysetPage;
+import app.utility.Money;
+import app.utility.PageCursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,6 +42,15 @@ class TransactionServiceUTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private UserActivityService userActivityService;
+
+    @Spy
+    private ListingProperties listingProperties = new ListingProperties();
+
+    @Spy
+    private TransactionReferenceGenerator transactionReferenceGenerator = new TransactionReferenceGenerator();
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -75,7 +90,7 @@ class TransactionServiceUTest {
                 .id(UUID.randomUUID())
                 .transactionStatus(TransactionStatus.COMPLETED)
                 .referenceNumber(UUID.randomUUID().toString().replace("-", "").substring(0, 8))
-                .paidAmount(BigDecimal.valueOf(100))
+                .paidAmount(Money.of(100))
                 .createdOn(LocalDateTime.now())
                 .updatedOn(LocalDateTime.now())
                 .deleted(false)
@@ -86,7 +101,7 @@ class TransactionServiceUTest {
     @Test
     void create_createsTransactionSuccessfully() {
         User dummyUser = createDummyUser(UserRole.POLICYHOLDER);
-        BigDecimal amount = BigDecimal.valueOf(500);
+        Money amount = Money.of(500);
         TransactionStatus status = TransactionStatus.COMPLETED;
 
         when(transactionRepository.save(any(Transaction.class)))
@@ -99,7 +114,7 @@ class TransactionServiceUTest {
         assertEquals(amount, transaction.getPaidAmount());
         assertEquals(status, transaction.getTransactionStatus());
         assertNotNull(transaction.getReferenceNumber());
-        assertEquals(8, transaction.getReferenceNumber().length());
+        assertEquals(TransactionReferenceGenerator.LENGTH, transaction.getReferenceNumber().length());
         assertFalse(transaction.isDeleted());
         assertNotNull(transaction.getCreatedOn());
         assertNotNull(transaction.getUpdatedOn());
@@ -114,16 +129,16 @@ class TransactionServiceUTest {
         Transaction t1 = createDummyTransaction(createDummyUser(UserRole.POLICYHOLDER));
         Transaction t2 = createDummyTransaction(createDummyUser(UserRole.POLICYHOLDER));
 
-        when(transactionRepository.findAllByOrderByUpdatedOnDesc()).thenReturn(List.of(t1, t2));
+        when(transactionRepository.findAllByOrderByUpdatedOnDescIdDesc(any(Limit.class))).thenReturn(List.of(t1, t2));
 
-        List<Transaction> result = transactionService.getAllTransactions(admin);
+        List<Transaction> result = transactionService.getAllTransactions(admin, null).getContent();
 
         assertEquals(2, result.size());
         assertTrue(result.contains(t1));
         assertTrue(result.contains(t2));
 
-        verify(transactionRepository, times(1)).findAllByOrderByUpdatedOnDesc();
-        verify(transactionRepository, never()).findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(any());
+        verify(transactionRepository, times(1)).findAllByOrderByUpdatedOnDescIdDesc(any(Limit.class));
+        verify(transactionRepository, never()).findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(any(), any());
     }
 
     @Test
@@ -133,16 +148,16 @@ class TransactionServiceUTest {
         Transaction t1 = createDummyTransaction(user);
         Transaction t2 = createDummyTransaction(user);
 
-        when(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user))
+        when(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(eq(user), any(Limit.class)))
                 .thenReturn(List.of(t1, t2));
 
-        List<Transaction> result = transactionService.getAllTransactions(user);
+        List<Transaction> result = transactionService.getAllTransactions(user, null).getContent();
 
         assertEquals(2, result.size());
         assertTrue(result.contains(t1));
         assertTrue(result.contains(t2));
 
-        verify(transactionRepository, times(1)).findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user);
+        verify(transactionRepository, times(1)).findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(eq(user), any(Limit.class));
         verify(transactionRepository, never()).findAll();
     }
 
@@ -151,77 +166,71 @@ class TransactionServiceUTest {
 
         User admin = createDummyUser(UserRole.ADMIN);
 
-        when(transactionRepository.findAllByOrderByUpdatedOnDesc()).thenReturn(List.of());
+        when(transactionRepository.findAllByOrderByUpdatedOnDescIdDesc(any(Limit.class))).thenReturn(List.of());
 
-        List<Transaction> result = transactionService.getAllTransactions(admin);
+        List<Transaction> result = transactionService.getAllTransactions(admin, null).getContent();
 
         assertNotNull(result);
         assertTrue(result.isEmpty(), "Expected an empty list when no transactions are found");
 
-        verify(transactionRepository, times(1)).findAllByOrderByUpdatedOnDesc();
-        verify(transactionRepository, never()).findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(any());
+        verify(transactionRepository, times(1)).findAllByOrderByUpdatedOnDescIdDesc(any(Limit.class));
+        verify(transactionRepository, never()).findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(any(), any());
     }
 
 
     @Test
-    void getAllTransactions_nonAdminNoTransactions_returnsEmptyList() {
+    void getAllTransactions_moreRowsThanPageSize_returnsPageWithCursorOfLastRow() {
         User user = createDummyUser(UserRole.POLICYHOLDER);
+        listingProperties.setPageSize(2);
 
-        when(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user)).thenReturn(List.of());
+        Transaction t1 = createDummyTransaction(user);
+        Transaction t2 = createDummyTransaction(user);
+        Transaction t3 = createDummyTransaction(user);
 
-        List<Transaction> result = transactionService.getAllTransactions(user);
+        when(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(user, Limit.of(3)))
+                .thenReturn(List.of(t1, t2, t3));
 
-        assertNotNull(result);
-        assertTrue(result.isEmpty(), "Expected an empty list when no transactions are found");
+        KeysetPage<Transaction> page = transactionService.getAllTransactions(user, null);
 
-        verify(transactionRepository, times(1)).findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user);
-        verify(transactionRepository, never()).findAll();
+        assertEquals(List.of(t1, t2), page.getContent());
+        assertTrue(page.hasNext());
+        assertEquals(t2.getId(), page.getNextCursor().getId());
+        assertEquals(t2.getUpdatedOn(), page.getNextCursor().getUpdatedOn());
     }
 
-
     @Test
-    void getTransactionsCreatedByUserForPeriod_returnsTransactions() {
+    void getAllTransactions_withCursor_readsRowsAfterCursor() {
         User user = createDummyUser(UserRole.POLICYHOLDER);
-        LocalDate start = LocalDate.now().minusDays(7);
-        LocalDate end = LocalDate.now();
+        PageCursor cursor = new PageCursor(LocalDateTime.now(), UUID.randomUUID());
 
         Transaction t1 = createDummyTransaction(user);
-        Transaction t2 = createDummyTransaction(user);
 
-        when(transactionRepository.findAllByTransactionOwnerAndDeletedFalseAndCreatedOnBetween(
-                eq(user),
-                eq(start.atStartOfDay()),
-                eq(end.atTime(LocalTime.MAX))
-        )).thenReturn(List.of(t1, t2));
+        when(transactionRepository.findAllByTransactionOwnerBefore(user, cursor.getUpdatedOn(), cursor.getId(), Limit.of(51)))
+                .thenReturn(List.of(t1));
 
-        List<Transaction> result = transactionService.getTransactionsCreatedByUserForPeriod(user, start, end);
+        KeysetPage<Transaction> page = transactionService.getAllTransactions(user, cursor);
 
-        assertEquals(2, result.size());
-        assertTrue(result.contains(t1));
-        assertTrue(result.contains(t2));
-
-        verify(transactionRepository, times(1))
-                .findAllByTransactionOwnerAndDeletedFalseAndCreatedOnBetween(user, start.atStartOfDay(), end.atTime(LocalTime.MAX));
+        assertEquals(List.of(t1), page.getContent());
+        assertFalse(page.hasNext());
+        verify(transactionRepository, never()).findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(any(), any());
     }
 
     @Test
-    void getTransactionsCreatedByUserForPeriod_noTransactions_returnsEmptyList() {
+    void getAllTransactions_nonAdminNoTransactions_returnsEmptyList() {
         User user = createDummyUser(UserRole.POLICYHOLDER);
-        LocalDate start = LocalDate.now().minusDays(7);
-        LocalDate end = LocalDate.now();
 
-        when(transactionRepository.findAllByTransactionOwnerAndDeletedFalseAndCreatedOnBetween(any(), any(), any()))
-                .thenReturn(List.of());
+        when(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(eq(user), any(Limit.class))).thenReturn(List.of());
 
-        List<Transaction> result = transactionService.getTransactionsCreatedByUserForPeriod(user, start, end);
+        List<Transaction> result = transactionService.getAllTransactions(user, null).getContent();
 
         assertNotNull(result);
         assertTrue(result.isEmpty(), "Expected an empty list when no transactions are found");
 
-        verify(transactionRepository, times(1))
-                .findAllByTransactionOwnerAndDeletedFalseAndCreatedOnBetween(any(), any(), any());
+        verify(transactionRepository, times(1)).findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDescIdDesc(eq(user), any(Limit.class));
+        verify(transactionRepository, never()).findAll();
     }
 
+
     @Test
     void getById_transactionExists_returnsTransaction() {
         Transaction t = createDummyTransaction(createDummyUser(UserRole.ADMIN));
@@ -0,0 +1,133 @@
+package app.user;
+
+import app.policy.model.Policy;
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.transaction.model.Transaction;
+import app.transaction.model.TransactionStatus;
+import app.transaction.repository.TransactionRepository;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.user.service.UserService;
+import app.web.dto.AccountBalanceRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Commits real transactions from several threads against a single user row, so a read-modify-write of the balance
+ * would lose updates here.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class UserBalanceConcurrencyITest {
+
+    private static final int THREADS = 8;
+    private static final int CREDITS_PER_THREAD = 25;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("contended")
+                .password("Password1@")
+                .email("contended@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policyRepository.findByPolicyType(PolicyType.STANDARD))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transactionRepository.deleteAll(transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user));
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void updateBalance_ConcurrentCredits_ShouldNotLoseUpdates() {
+
+        runConcurrently(() -> {
+            for (int i = 0; i < CREDITS_PER_THREAD; i++) {
+                AccountBalanceRequest request = new AccountBalanceRequest();
+                request.setAddedAmount(BigDecimal.ONE);
+                userService.updateBalance(user.getId(), request);
+            }
+        });
+
+        BigDecimal expected = BigDecimal.valueOf(THREADS * CREDITS_PER_THREAD);
+        assertEquals(0, expected.compareTo(userRepository.findById(user.getId()).orElseThrow().getAccountBalance()));
+        assertEquals(THREADS * CREDITS_PER_THREAD, transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user).size());
+    }
+
+    @Test
+    void changePolicy_ConcurrentPurchases_ShouldNeverOverdraw() {
+
+        Policy lux = policyRepository.findByPolicyType(PolicyType.LUX);
+        userService.credit(user.getId(), lux.getPolicyPrice().multiply(BigDecimal.valueOf(3)));
+
+        runConcurrently(() -> userService.changePolicy(lux.getId(), user));
+
+        List<TransactionStatus> statuses = transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user).stream()
+                .map(Transaction::getTransactionStatus)
+                .toList();
+        assertEquals(3, statuses.stream().filter(status -> status == TransactionStatus.COMPLETED).count());
+        assertEquals(THREADS - 3, statuses.stream().filter(status -> status == TransactionStatus.FAILED).count());
+        assertEquals(0, BigDecimal.ZERO.compareTo(userRepository.findById(user.getId()).orElseThrow().getAccountBalance()));
+    }
+
+    private static void runConcurrently(Runnable task) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> workers = IntStream.range(0, THREADS)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    await(start);
+                    task.run();
+                }))
+                .toList();
+
+        start.countDown();
+        CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
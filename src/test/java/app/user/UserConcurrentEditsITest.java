@@ -0,0 +1,107 @@
+package app.user;
+
+import app.policy.model.PolicyType;
+import app.policy.repository.PolicyRepository;
+import app.user.model.CompanyName;
+import app.user.model.User;
+import app.user.model.UserRole;
+import app.user.repository.UserRepository;
+import app.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Toggles the same user from several threads. Every toggle reads the current state, so without the version check and
+ * the retry two toggles could read the same value and one of them would be lost.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "concurrency.retry.max-attempts=50")
+class UserConcurrentEditsITest {
+
+    private static final int THREADS = 6;
+    private static final int TOGGLES_PER_THREAD = 5;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("toggled")
+                .password("Password1@")
+                .email("toggled@test.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.POLICYHOLDER)
+                .permission("not_delete")
+                .companyName(CompanyName.NEURO_NEST)
+                .employed(true)
+                .accountBalance(BigDecimal.ZERO)
+                .policy(policyRepository.findByPolicyType(PolicyType.STANDARD))
+                .createdOn(LocalDateTime.now())
+                .updatedOn(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void changeEmployment_ConcurrentToggles_ShouldAllApply() {
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> editors = IntStream.range(0, THREADS)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    await(start);
+                    for (int j = 0; j < TOGGLES_PER_THREAD; j++) {
+                        userService.changeEmployment(user.getId());
+                    }
+                }))
+                .toList();
+
+        start.countDown();
+        CompletableFuture.allOf(editors.toArray(CompletableFuture[]::new)).join();
+
+        User edited = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals(THREADS * TOGGLES_PER_THREAD, edited.getVersion());
+        assertTrue(edited.isEmployed());
+        assertEquals(0, meterRegistry.counter("concurrency.retries.exhausted", "operation", "user.changeEmployment").count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
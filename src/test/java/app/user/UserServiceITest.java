@@ -13,6 +13,7 @@ import app.user.model.User;
 import app.user.model.UserRole;
 import app.user.repository.UserRepository;
 import app.user.service.UserService;
+import app.utility.Money;
 import app.web.dto.AccountBalanceRequest;
 import app.web.dto.RegisterRequest;
 import org.junit.jupiter.api.Test;
@@ -107,12 +108,12 @@ class UserServiceITest {
         userService.updateBalance(user.getId(), balanceRequest);
 
         User updatedUser = userRepository.findById(user.getId()).get();
-        assertEquals(addAmount, updatedUser.getAccountBalance());
+        assertEquals(0, addAmount.compareTo(updatedUser.getAccountBalance()));
 
         List<Transaction> transactions = transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user);
         assertEquals(1, transactions.size());
         Transaction tx = transactions.get(0);
-        assertEquals(addAmount, tx.getPaidAmount());
+        assertEquals(Money.of(addAmount), tx.getPaidAmount());
         assertEquals(TransactionStatus.COMPLETED, tx.getTransactionStatus());
     }
 
@@ -142,12 +143,12 @@ class UserServiceITest {
         assertEquals(luxPolicy.getId(), updatedUser.getPolicy().getId());
 
         BigDecimal expectedBalance = initialBalance.subtract(luxPolicy.getPolicyPrice());
-        assertEquals(expectedBalance, updatedUser.getAccountBalance());
+        assertEquals(0, expectedBalance.compareTo(updatedUser.getAccountBalance()));
 
         List<Transaction> transactions = transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user);
         assertEquals(1, transactions.size());
         Transaction tx = transactions.get(0);
-        assertEquals(luxPolicy.getPolicyPrice(), tx.getPaidAmount());
+        assertEquals(Money.of(luxPolicy.getPolicyPrice()), tx.getPaidAmount());
         assertEquals(TransactionStatus.COMPLETED, tx.getTransactionStatus());
     }
 
@@ -171,12 +172,12 @@ class UserServiceITest {
 
         User updatedUser = userRepository.findById(user.getId()).get();
         assertNotEquals(luxPolicy.getId(), updatedUser.getPolicy().getId());
-        assertEquals(BigDecimal.ZERO, updatedUser.getAccountBalance());
+        assertEquals(0, BigDecimal.ZERO.compareTo(updatedUser.getAccountBalance()));
 
         List<Transaction> transactions = transactionRepository.findAllByTransactionOwnerAndDeletedFalseOrderByUpdatedOnDesc(user);
         assertEquals(1, transactions.size());
         Transaction tx = transactions.get(0);
-        assertEquals(luxPolicy.getPolicyPrice(), tx.getPaidAmount());
+        assertEquals(Money.of(luxPolicy.getPolicyPrice()), tx.getPaidAmount());
         assertEquals(TransactionStatus.FAILED, tx.getTransactionStatus());
     }
 }
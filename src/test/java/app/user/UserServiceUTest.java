@@ -3,12 +3,18 @@ package app.user;
 import app.exception.UserNotFoundException;
 import app.policy.model.Policy;
 import app.policy.model.PolicyType;
+import app.policy.service.PolicyService;
+import app.transaction.model.TransactionStatus;
+import app.transaction.service.TransactionService;
 import app.user.model.User;
 import app.user.model.UserRole;
 import app.user.model.CompanyName;
 import app.user.repository.UserRepository;
 import app.user.service.UserService;
+import app.utility.ConcurrencyRetry;
+import app.utility.Money;
 import app.web.dto.ProfileEditRequest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -20,6 +26,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,9 +37,28 @@ class UserServiceUTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PolicyService policyService;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private ConcurrencyRetry concurrencyRetry;
+
     @InjectMocks
     private UserService userService;
 
+    @BeforeEach
+    void runRetriedOperationsOnce() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(concurrencyRetry).run(anyString(), any(Runnable.class));
+        lenient().when(concurrencyRetry.execute(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
     private User buildTestUser(UUID id, UserRole role) {
         return User.builder()
                 .id(id)
@@ -182,4 +208,40 @@ class UserServiceUTest {
 
         verify(userRepository, times(1)).save(user);
     }
+
+    @Test
+    void credit_unknownUser_throwsUserNotFoundException() {
+
+        UUID userId = UUID.randomUUID();
+        when(userRepository.credit(eq(userId), eq(BigDecimal.TEN), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThrows(UserNotFoundException.class, () -> userService.credit(userId, BigDecimal.TEN));
+    }
+
+    @Test
+    void changePolicy_guardedDebitSucceeds_recordsCompletedTransaction() {
+
+        User user = buildTestUser(UUID.randomUUID(), UserRole.POLICYHOLDER);
+        Policy policy = user.getPolicy();
+        when(policyService.getById(policy.getId())).thenReturn(policy);
+        when(userRepository.purchasePolicy(eq(user.getId()), eq(policy), eq(policy.getPolicyPrice()), any(LocalDateTime.class))).thenReturn(1);
+
+        assertTrue(userService.changePolicy(policy.getId(), user));
+
+        verify(transactionService).create(user, Money.of(policy.getPolicyPrice()), TransactionStatus.COMPLETED);
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void changePolicy_guardedDebitRejected_recordsFailedTransaction() {
+
+        User user = buildTestUser(UUID.randomUUID(), UserRole.POLICYHOLDER);
+        Policy policy = user.getPolicy();
+        when(policyService.getById(policy.getId())).thenReturn(policy);
+        when(userRepository.purchasePolicy(eq(user.getId()), eq(policy), eq(policy.getPolicyPrice()), any(LocalDateTime.class))).thenReturn(0);
+
+        assertFalse(userService.changePolicy(policy.getId(), user));
+
+        verify(transactionService).create(user, Money.of(policy.getPolicyPrice()), TransactionStatus.FAILED);
+    }
 }
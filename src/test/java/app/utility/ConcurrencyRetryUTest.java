@@ -0,0 +1,118 @@
+package app.utility;
+
+import app.configuration.ConcurrencyRetryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyRetryUTest {
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConcurrencyRetry concurrencyRetry;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyRetryProperties properties = new ConcurrencyRetryProperties();
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(2));
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        concurrencyRetry = new ConcurrencyRetry(transactionTemplate, properties, meterRegistry);
+    }
+
+    @Test
+    void execute_conflictThenSuccess_retriesAndCountsTheConflict() {
+
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = concurrencyRetry.execute("test", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ObjectOptimisticLockingFailureException(Object.class, "id");
+            }
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1, meterRegistry.counter("concurrency.conflicts", "operation", "test").count());
+        assertEquals(1, meterRegistry.counter("concurrency.retries", "operation", "test").count());
+        assertEquals(0, meterRegistry.counter("concurrency.retries.exhausted", "operation", "test").count());
+    }
+
+    @Test
+    void execute_persistentConflict_givesUpAfterMaxAttempts() {
+
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> concurrencyRetry.run("test", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Object.class, "id");
+        }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(3, meterRegistry.counter("concurrency.conflicts", "operation", "test").count());
+        assertEquals(2, meterRegistry.counter("concurrency.retries", "operation", "test").count());
+        assertEquals(1, meterRegistry.counter("concurrency.retries.exhausted", "operation", "test").count());
+    }
+
+    @Test
+    void execute_otherFailure_isNotRetried() {
+
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> concurrencyRetry.run("test", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_regeneratedKeyCollision_retriesWithAFreshAttempt() {
+
+        AtomicInteger attempts = new AtomicInteger();
+
+        concurrencyRetry.run("test", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new DataIntegrityViolationException("Duplicate entry '0f3a9c1e7b2d4a60' for key 'transaction.ux_transaction_reference_number'");
+            }
+        });
+
+        assertEquals(2, attempts.get());
+        assertEquals(1, meterRegistry.counter("concurrency.retries", "operation", "test").count());
+    }
+
+    @Test
+    void execute_otherIntegrityViolation_isNotRetried() {
+
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(DataIntegrityViolationException.class, () -> concurrencyRetry.run("test", () -> {
+            attempts.incrementAndGet();
+            throw new DataIntegrityViolationException("Duplicate entry 'john' for key 'users.username'");
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+}
@@ -0,0 +1,124 @@
+package app.utility;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+
+/**
+ * Cost of the claim limit check and of the reimbursement sum with {@link BigDecimal} amounts against {@link Money}.
+ * Run with {@code mvn test -Dtest=MoneyBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MoneyBenchmark {
+
+    private static final int AMOUNTS = 10_000;
+    private static final int ROUNDS = 300;
+
+    private final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final BigDecimal[] decimals = new BigDecimal[AMOUNTS];
+    private final Money[] amounts = new Money[AMOUNTS];
+
+    private final BigDecimal decimalLimit = new BigDecimal("500.00");
+    private final long limit = Money.of(decimalLimit).getMinorUnits();
+
+    MoneyBenchmark() {
+        for (int i = 0; i < AMOUNTS; i++) {
+            decimals[i] = BigDecimal.valueOf(i * 7L % 100_000, Money.SCALE);
+            amounts[i] = Money.of(decimals[i]);
+        }
+    }
+
+    @Test
+    void compareLimitCheckAndSum() {
+
+        long decimalCheckNanos = Long.MAX_VALUE;
+        long moneyCheckNanos = Long.MAX_VALUE;
+        long decimalSumNanos = Long.MAX_VALUE;
+        long moneySumNanos = Long.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            decimalWithinLimit();
+            decimalCheckNanos = Math.min(decimalCheckNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            moneyWithinLimit();
+            moneyCheckNanos = Math.min(moneyCheckNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            decimalSum();
+            decimalSumNanos = Math.min(decimalSumNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            moneySum();
+            moneySumNanos = Math.min(moneySumNanos, System.nanoTime() - start);
+        }
+
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        decimalWithinLimit();
+        long decimalCheckBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        moneyWithinLimit();
+        long moneyCheckBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        BigDecimal decimalTotal = decimalSum();
+        long decimalSumBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long moneyTotal = moneySum();
+        long moneySumBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("Limit check (best of %d rounds, %d amounts): BigDecimal %.1f ns %.1f B/amount, Money %.1f ns %.1f B/amount%n",
+                ROUNDS, AMOUNTS,
+                (double) decimalCheckNanos / AMOUNTS, (double) decimalCheckBytes / AMOUNTS,
+                (double) moneyCheckNanos / AMOUNTS, (double) moneyCheckBytes / AMOUNTS);
+        System.out.printf("Sum (best of %d rounds, %d amounts): BigDecimal %.1f ns %.1f B/amount, Money %.1f ns %.1f B/amount, totals %s/%s%n",
+                ROUNDS, AMOUNTS,
+                (double) decimalSumNanos / AMOUNTS, (double) decimalSumBytes / AMOUNTS,
+                (double) moneySumNanos / AMOUNTS, (double) moneySumBytes / AMOUNTS,
+                decimalTotal, Money.ofMinorUnits(moneyTotal));
+    }
+
+    private int decimalWithinLimit() {
+        int within = 0;
+        for (BigDecimal amount : decimals) {
+            if (amount.signum() > 0 && amount.compareTo(decimalLimit) <= 0) {
+                within++;
+            }
+        }
+        return within;
+    }
+
+    private int moneyWithinLimit() {
+        int within = 0;
+        for (Money amount : amounts) {
+            if (amount.getMinorUnits() > 0 && amount.getMinorUnits() <= limit) {
+                within++;
+            }
+        }
+        return within;
+    }
+
+    private BigDecimal decimalSum() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimals) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    private long moneySum() {
+        long total = 0;
+        for (Money amount : amounts) {
+            total = Math.addExact(total, amount.getMinorUnits());
+        }
+        return total;
+    }
+}
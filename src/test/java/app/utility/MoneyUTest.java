@@ -0,0 +1,56 @@
+package app.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyUTest {
+
+    @Test
+    void of_decimalAmount_isHeldInCents() {
+
+        Money money = Money.of(new BigDecimal("12.5"));
+
+        assertEquals(1250, money.getMinorUnits());
+        assertEquals(Money.of(new BigDecimal("12.50")), money);
+        assertEquals(new BigDecimal("12.50"), money.toBigDecimal());
+    }
+
+    @Test
+    void of_moreThanTwoDecimalPlaces_isRejected() {
+
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("0.005")));
+    }
+
+    @Test
+    void plus_overflow_throwsInsteadOfWrapping() {
+
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinorUnits(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinorUnits(Long.MIN_VALUE).minus(Money.ofMinorUnits(1)));
+        assertEquals(Money.of(3), Money.of(1).plus(Money.of(2)));
+    }
+
+    @Test
+    void converter_roundTripsThroughTheDecimalColumn() {
+
+        MoneyConverter converter = new MoneyConverter();
+
+        assertEquals(new BigDecimal("99.99"), converter.convertToDatabaseColumn(Money.ofMinorUnits(9999)));
+        assertEquals(Money.ofMinorUnits(9999), converter.convertToEntityAttribute(new BigDecimal("99.99")));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void formatter_printsTwoDecimalPlaces() throws Exception {
+
+        MoneyFormatter formatter = new MoneyFormatter();
+
+        assertEquals("1000.00", formatter.print(Money.of(1000), Locale.GERMANY));
+        assertEquals(Money.ofMinorUnits(505), formatter.parse(" 5.05 ", Locale.US));
+    }
+}
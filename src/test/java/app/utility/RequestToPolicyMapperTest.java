@@ -19,6 +19,7 @@ class RequestToPolicyMapperTest {
                 .limitForSurgery(BigDecimal.valueOf(2500))
                 .limitForDentalService(BigDecimal.valueOf(300))
                 .policyPrice(BigDecimal.valueOf(49.99))
+                .version(4L)
                 .build();
 
         PolicyLimitsChangeRequest request = RequestToPolicyMapper.fromPolicyToEditRequest(policy);
@@ -28,6 +29,7 @@ class RequestToPolicyMapperTest {
         assertThat(request.getLimitForSurgery()).isEqualByComparingTo(BigDecimal.valueOf(2500));
         assertThat(request.getLimitForDentalService()).isEqualByComparingTo(BigDecimal.valueOf(300));
         assertThat(request.getPolicyPrice()).isEqualByComparingTo(BigDecimal.valueOf(49.99));
+        assertThat(request.getVersion()).isEqualTo(4L);
     }
 
     @Test